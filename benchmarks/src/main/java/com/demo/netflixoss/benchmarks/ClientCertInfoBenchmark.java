@@ -0,0 +1,48 @@
+package com.demo.netflixoss.benchmarks;
+
+import com.demo.netflixoss.mtlsmiddleware.api.ClientCertInfo;
+import com.demo.netflixoss.mtlsmiddleware.api.ClientCertInfoResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientCertInfoBenchmark {
+
+    @Param({"0", "1000"})
+    public long cacheSize;
+
+    private ClientCertInfoResolver resolver;
+    private X509Certificate certificate;
+
+    @Setup
+    public void setUp() throws Exception {
+        resolver = new ClientCertInfoResolver(cacheSize);
+        try (InputStream in = ClientCertInfoBenchmark.class.getResourceAsStream("/client-cert.pem")) {
+            certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in);
+        }
+    }
+
+    @Benchmark
+    public ClientCertInfo resolve() {
+        return resolver.resolve(new X509Certificate[]{certificate});
+    }
+}
@@ -0,0 +1,41 @@
+package com.demo.netflixoss.benchmarks;
+
+import com.demo.netflixoss.corebackend.service.ComputedOutputFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComputedOutputBenchmark {
+
+    @Param({"123.0", "-4567.891", "0.005"})
+    public double amount;
+
+    public String type = "REST";
+    public String message = "hello-rest";
+
+    @Benchmark
+    public String stringFormat() {
+        return "processed(type=%s, message=%s, amount=%.2f, fee=%.2f, total=%.2f)"
+                .formatted(type, message, amount, amount * 0.05d, amount * 1.05d);
+    }
+
+    @Benchmark
+    public String fixedPoint() {
+        return ComputedOutputFormatter.format(type, message, amount);
+    }
+}
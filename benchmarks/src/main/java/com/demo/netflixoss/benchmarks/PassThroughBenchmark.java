@@ -0,0 +1,75 @@
+package com.demo.netflixoss.benchmarks;
+
+import com.demo.netflixoss.mtlsmiddleware.api.ClientCertInfo;
+import com.demo.netflixoss.mtlsmiddleware.api.ClientCertJsonSplicer;
+import com.demo.netflixoss.mtlsmiddleware.model.InstanceInfo;
+import com.demo.netflixoss.mtlsmiddleware.model.MiddlewareProcessedResponse;
+import com.demo.netflixoss.mtlsmiddleware.model.ProcessRequest;
+import com.demo.netflixoss.mtlsmiddleware.model.ProcessedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PassThroughBenchmark {
+    private static final ClientCertInfo CLIENT_CERT = new ClientCertInfo(
+            "CN=user-bff,OU=Platform,O=NetflixOSS Demo,L=Demo,ST=Demo,C=US",
+            "681958244037649148811850492748829056915335227527"
+    );
+
+    private ObjectReader backendReader;
+    private ObjectWriter middlewareWriter;
+    private byte[] backendResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        backendReader = mapper.readerFor(ProcessedResponse.class);
+        middlewareWriter = mapper.writerFor(MiddlewareProcessedResponse.class);
+        backendResponse = mapper.writeValueAsBytes(new ProcessedResponse(
+                new ProcessRequest("REST", "hello-rest", 123.0d),
+                "processed(type=REST, message=hello-rest, amount=123.00, fee=6.15, total=129.15)",
+                Instant.parse("2026-01-01T00:00:00.123456789Z"),
+                new InstanceInfo("core-backend", "ip-10-0-1-23.ec2.internal", "10.0.1.23"),
+                CLIENT_CERT.subjectDn(),
+                CLIENT_CERT.serialNumber()
+        ));
+    }
+
+    @Benchmark
+    public byte[] typed() throws Exception {
+        ProcessedResponse backend = backendReader.readValue(backendResponse);
+        return middlewareWriter.writeValueAsBytes(MiddlewareProcessedResponse.fromBackend(
+                backend,
+                CLIENT_CERT.subjectDn(),
+                CLIENT_CERT.serialNumber()
+        ));
+    }
+
+    @Benchmark
+    public byte[] spliced() {
+        return ClientCertJsonSplicer.append(backendResponse, CLIENT_CERT);
+    }
+}
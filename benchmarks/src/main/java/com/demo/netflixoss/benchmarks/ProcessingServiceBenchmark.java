@@ -0,0 +1,52 @@
+package com.demo.netflixoss.benchmarks;
+
+import com.demo.netflixoss.corebackend.model.ProcessRequest;
+import com.demo.netflixoss.corebackend.model.ProcessedResponse;
+import com.demo.netflixoss.corebackend.service.InstanceInfoProvider;
+import com.demo.netflixoss.corebackend.service.ProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessingServiceBenchmark {
+
+    @Param({"cached", "per-request"})
+    public String instanceInfo;
+
+    private InstanceInfoProvider instanceInfoProvider;
+    private ProcessingService processingService;
+    private ProcessRequest request;
+    private boolean resolvePerRequest;
+
+    @Setup
+    public void setUp() {
+        instanceInfoProvider = new InstanceInfoProvider("core-backend");
+        processingService = new ProcessingService(instanceInfoProvider);
+        request = new ProcessRequest("REST", "hello-rest", 123.0d);
+        resolvePerRequest = "per-request".equals(instanceInfo);
+    }
+
+    @Benchmark
+    public ProcessedResponse process() {
+        if (resolvePerRequest) {
+            instanceInfoProvider.refresh();
+        }
+        return processingService.process(request, "CN=user-bff-client", "1000");
+    }
+}
@@ -0,0 +1,123 @@
+package com.demo.netflixoss.benchmarks;
+
+import com.demo.netflixoss.userbff.model.InstanceInfo;
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
+import com.demo.netflixoss.userbff.model.ProcessRequest;
+import com.demo.netflixoss.userbff.soap.StaxSoapCodec;
+import com.demo.netflixoss.userbff.soap.endpoint.ProcessEndpoint;
+import com.demo.netflixoss.userbff.soap.schema.ProcessRequestElement;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.xml.bind.Marshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
+import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
+import org.springframework.ws.server.endpoint.adapter.method.jaxb.XmlRootElementPayloadMethodProcessor;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoapPayloadBenchmark {
+    private static final byte[] SOAP_REQUEST = ("<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" "
+            + "xmlns:pr=\"http://demo.netflixoss.com/userbff/process\">"
+            + "<soapenv:Header/><soapenv:Body><pr:ProcessRequest>"
+            + "<pr:type>SOAP</pr:type><pr:message>hello-soap</pr:message><pr:amount>456.0</pr:amount>"
+            + "</pr:ProcessRequest></soapenv:Body></soapenv:Envelope>").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_REQUEST = "{\"type\":\"REST\",\"message\":\"hello-rest\",\"amount\":123.0}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"saaj", "stax"})
+    public String pipeline;
+
+    private SaajSoapMessageFactory messageFactory;
+    private StaxSoapCodec staxCodec;
+    private MethodArgumentResolver argumentResolver;
+    private MethodReturnValueHandler returnValueHandler;
+    private MethodParameter requestParameter;
+    private MethodParameter returnType;
+    private MiddlewareProcessedResponse response;
+    private ObjectReader jsonReader;
+    private ObjectWriter jsonWriter;
+
+    @Setup
+    public void setUp() throws Exception {
+        messageFactory = new SaajSoapMessageFactory();
+        messageFactory.afterPropertiesSet();
+        XmlRootElementPayloadMethodProcessor processor = new XmlRootElementPayloadMethodProcessor();
+        argumentResolver = processor;
+        returnValueHandler = processor;
+        Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+        marshaller.setPackagesToScan(ProcessRequestElement.class.getPackageName());
+        marshaller.setMarshallerProperties(Map.of(Marshaller.JAXB_FRAGMENT, true));
+        marshaller.afterPropertiesSet();
+        staxCodec = new StaxSoapCodec(marshaller, Set.of(new QName("http://demo.netflixoss.com/userbff/process", "ProcessRequest")));
+        requestParameter = new MethodParameter(ProcessEndpoint.class.getMethod("process", ProcessRequestElement.class), 0);
+        returnType = new MethodParameter(ProcessEndpoint.class.getMethod("process", ProcessRequestElement.class), -1);
+        response = new MiddlewareProcessedResponse(
+                new ProcessRequest("SOAP", "hello-soap", 456.0d),
+                "processed(type=SOAP, message=hello-soap, amount=456.00, fee=22.80, total=478.80)",
+                "2026-01-01T00:00:00.123456789Z",
+                new InstanceInfo("core-backend", "ip-10-0-1-23.ec2.internal", "10.0.1.23"),
+                "CN=mtls-middleware,OU=Platform,O=NetflixOSS Demo,L=Demo,ST=Demo,C=US",
+                "681958244037649148811850492748829056915335227527",
+                "CN=user-bff,OU=Platform,O=NetflixOSS Demo,L=Demo,ST=Demo,C=US",
+                "681958244037649148811850492748829056915335227528"
+        );
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        jsonReader = mapper.readerFor(ProcessRequest.class);
+        jsonWriter = mapper.writerFor(MiddlewareProcessedResponse.class);
+    }
+
+    @Benchmark
+    public byte[] soap() throws Exception {
+        if ("stax".equals(pipeline)) {
+            ProcessRequestElement request = (ProcessRequestElement) staxCodec.readRequest(SOAP_REQUEST);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+            staxCodec.writeResponse(ProcessEndpoint.toSoapResponse(response), out);
+            return out.toByteArray();
+        }
+        MessageContext messageContext = new DefaultMessageContext(
+                messageFactory.createWebServiceMessage(new ByteArrayInputStream(SOAP_REQUEST)),
+                messageFactory
+        );
+        ProcessRequestElement request = (ProcessRequestElement) argumentResolver.resolveArgument(messageContext, requestParameter);
+        returnValueHandler.handleReturnValue(messageContext, returnType, ProcessEndpoint.toSoapResponse(response));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        messageContext.getResponse().writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] rest() throws Exception {
+        ProcessRequest request = jsonReader.readValue(JSON_REQUEST);
+        return jsonWriter.writeValueAsBytes(response);
+    }
+}
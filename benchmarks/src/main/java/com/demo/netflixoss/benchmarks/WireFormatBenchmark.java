@@ -0,0 +1,106 @@
+package com.demo.netflixoss.benchmarks;
+
+import com.demo.netflixoss.corebackend.model.InstanceInfo;
+import com.demo.netflixoss.corebackend.model.ProcessRequest;
+import com.demo.netflixoss.corebackend.model.ProcessedResponse;
+import com.demo.netflixoss.mtlsmiddleware.model.MiddlewareProcessedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+    private static final String SUBJECT = "CN=user-bff,OU=Platform,O=NetflixOSS Demo,L=Demo,ST=Demo,C=US";
+    private static final String SERIAL = "681958244037649148811850492748829056915335227527";
+
+    @Param({"json", "smile"})
+    public String format;
+
+    @Param({"backend", "middleware"})
+    public String payload;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("smile".equals(format)) {
+            builder.factory(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+        }
+        ObjectMapper mapper = builder.build();
+
+        ProcessedResponse backend = new ProcessedResponse(
+                new ProcessRequest("REST", "hello-rest", 123.0d),
+                "processed(type=REST, message=hello-rest, amount=123.00, fee=6.15, total=129.15)",
+                Instant.parse("2026-01-01T00:00:00.123456789Z"),
+                new InstanceInfo("core-backend", "ip-10-0-1-23.ec2.internal", "10.0.1.23"),
+                SUBJECT,
+                SERIAL
+        );
+        value = "middleware".equals(payload) ? middlewareResponse(backend) : backend;
+        writer = mapper.writerFor(value.getClass());
+        reader = mapper.readerFor(value.getClass());
+        encoded = writer.writeValueAsBytes(value);
+        System.out.printf("%n%s %s payload: %d bytes%n", format, payload, encoded.length);
+    }
+
+    private static MiddlewareProcessedResponse middlewareResponse(ProcessedResponse backend) {
+        return new MiddlewareProcessedResponse(
+                new com.demo.netflixoss.mtlsmiddleware.model.ProcessRequest(
+                        backend.original().type(),
+                        backend.original().message(),
+                        backend.original().amount()
+                ),
+                backend.computedOutput(),
+                backend.timestamp(),
+                new com.demo.netflixoss.mtlsmiddleware.model.InstanceInfo(
+                        backend.instance().service(),
+                        backend.instance().hostname(),
+                        backend.instance().address()
+                ),
+                backend.receivedClientSubject(),
+                backend.receivedClientSerial(),
+                SUBJECT,
+                SERIAL
+        );
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return reader.readValue(encoded);
+    }
+}
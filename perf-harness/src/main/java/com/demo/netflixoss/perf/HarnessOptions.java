@@ -0,0 +1,88 @@
+package com.demo.netflixoss.perf;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+public record HarnessOptions(
+        Map<Hop, String> urls,
+        List<Hop> hops,
+        List<Protocol> protocols,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int maxOutstanding,
+        Duration requestTimeout,
+        Path certsDir,
+        String storePassword,
+        Path outDir
+) {
+    public static HarnessOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals > 0) {
+                values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            } else if (i + 1 < args.length) {
+                values.put(arg.substring(2), args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+        }
+
+        Map<Hop, String> urls = new HashMap<>();
+        urls.put(Hop.GATEWAY, values.getOrDefault("gateway-url", "http://localhost:8080"));
+        urls.put(Hop.BFF, values.getOrDefault("bff-url", "http://localhost:8081"));
+        urls.put(Hop.MIDDLEWARE, values.getOrDefault("middleware-url", "https://localhost:8443"));
+        urls.put(Hop.BACKEND, values.getOrDefault("backend-url", "http://localhost:8082"));
+
+        return new HarnessOptions(
+                urls,
+                list(values.getOrDefault("hops", "gateway,bff,middleware,backend"), Hop::valueOf),
+                list(values.getOrDefault("protocols", "rest,graphql,soap"), Protocol::valueOf),
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("max-outstanding", "2000")),
+                duration(values.getOrDefault("request-timeout", "10s")),
+                Path.of(values.getOrDefault("certs-dir", "scripts/certs/out")),
+                values.getOrDefault("store-password", "changeit"),
+                Path.of(values.getOrDefault("out-dir", "reports/perf"))
+        );
+    }
+
+    public String url(Hop hop) {
+        return urls.get(hop);
+    }
+
+    private static <T> List<T> list(String value, Function<String, T> parser) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .map(item -> parser.apply(item.toUpperCase(Locale.ROOT)))
+                .toList();
+    }
+
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(text));
+    }
+}
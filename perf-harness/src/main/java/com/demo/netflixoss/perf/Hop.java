@@ -0,0 +1,14 @@
+package com.demo.netflixoss.perf;
+
+import java.util.Locale;
+
+public enum Hop {
+    GATEWAY,
+    BFF,
+    MIDDLEWARE,
+    BACKEND;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+package com.demo.netflixoss.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class HopMetrics {
+    private static final String PATH = "/actuator/metrics/http.server.requests?tag=method:POST";
+
+    private final Map<Hop, String> urls;
+    private final Function<String, HttpClient> clients;
+    private final ObjectMapper objectMapper;
+
+    public HopMetrics(Map<Hop, String> urls, Function<String, HttpClient> clients, ObjectMapper objectMapper) {
+        this.urls = urls;
+        this.clients = clients;
+        this.objectMapper = objectMapper;
+    }
+
+    public Map<Hop, Sample> sample() throws InterruptedException {
+        Map<Hop, Sample> samples = new EnumMap<>(Hop.class);
+        for (Hop hop : Hop.values()) {
+            String url = urls.get(hop);
+            if (url == null) {
+                continue;
+            }
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(url.replaceAll("/+$", "") + PATH))
+                        .timeout(Duration.ofSeconds(5))
+                        .GET()
+                        .build();
+                HttpResponse<byte[]> response = clients.apply(url).send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != 200) {
+                    continue;
+                }
+                double count = 0;
+                double totalSeconds = 0;
+                for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+                    switch (measurement.path("statistic").asText()) {
+                        case "COUNT" -> count = measurement.path("value").asDouble();
+                        case "TOTAL_TIME" -> totalSeconds = measurement.path("value").asDouble();
+                        default -> {
+                        }
+                    }
+                }
+                samples.put(hop, new Sample(count, totalSeconds));
+            } catch (IOException e) {
+                System.err.printf("%s metrics unavailable: %s%n", hop.tag(), e.getMessage());
+            }
+        }
+        return samples;
+    }
+
+    public static Map<String, Stats> delta(Map<Hop, Sample> before, Map<Hop, Sample> after, Duration duration) {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        double seconds = duration.toNanos() / 1e9;
+        after.forEach((hop, end) -> {
+            Sample start = before.get(hop);
+            if (start == null) {
+                return;
+            }
+            long requests = Math.round(end.count() - start.count());
+            if (requests <= 0) {
+                return;
+            }
+            double meanMs = (end.totalSeconds() - start.totalSeconds()) * 1000.0 / requests;
+            stats.put(hop.tag(), new Stats(requests, round(requests / seconds), round(meanMs)));
+        });
+        return stats;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    public record Sample(double count, double totalSeconds) {
+    }
+
+    public record Stats(long requests, double throughputRps, double meanMs) {
+    }
+}
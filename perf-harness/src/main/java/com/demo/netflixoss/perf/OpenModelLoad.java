@@ -0,0 +1,181 @@
+package com.demo.netflixoss.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class OpenModelLoad {
+    private static final byte[] MARKER = "processed(".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpClient client;
+    private final int maxOutstanding;
+    private final Duration requestTimeout;
+
+    public OpenModelLoad(HttpClient client, int maxOutstanding, Duration requestTimeout) {
+        this.client = client;
+        this.maxOutstanding = maxOutstanding;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public Result run(Scenario scenario, double rate, Duration duration, HistogramLogWriter log) throws InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(scenario.uri())
+                .timeout(requestTimeout)
+                .header("Content-Type", scenario.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(scenario.body()));
+        scenario.headers().forEach(builder::header);
+        HttpRequest request = builder.build();
+
+        Recorder recorder = new Recorder(3);
+        Recorder allRecorder = new Recorder(3);
+        Histogram total = new Histogram(3);
+        Histogram allTotal = new Histogram(3);
+        long timeoutMicros = requestTimeout.toNanos() / 1000;
+        AtomicInteger outstanding = new AtomicInteger();
+        LongAdder ok = new LongAdder();
+        ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        long startMillis = System.currentTimeMillis();
+        if (log != null) {
+            log.setBaseTime(startMillis);
+            log.outputBaseTime(startMillis);
+            log.outputStartTime(startMillis);
+            log.outputLegend();
+        }
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleAtFixedRate(() -> interval(recorder, total, allRecorder, allTotal, log), 1, 1, TimeUnit.SECONDS);
+
+        long intervalNanos = Math.max(1, Math.round(1_000_000_000.0 / rate));
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sent = 0;
+        long maxLagNanos = 0;
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long now = System.nanoTime();
+            if (intended > now) {
+                LockSupport.parkNanos(intended - now);
+                now = System.nanoTime();
+            }
+            maxLagNanos = Math.max(maxLagNanos, now - intended);
+            sent++;
+            if (outstanding.incrementAndGet() > maxOutstanding) {
+                outstanding.decrementAndGet();
+                count(errors, "dropped");
+                allRecorder.recordValue(timeoutMicros);
+                continue;
+            }
+            long scheduled = intended;
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+                outstanding.decrementAndGet();
+                allRecorder.recordValue(latencyMicros);
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    count(errors, cause.getClass().getSimpleName());
+                } else if (response.statusCode() != 200) {
+                    count(errors, Integer.toString(response.statusCode()));
+                } else if (!contains(response.body(), MARKER)) {
+                    count(errors, "invalid-body");
+                } else {
+                    recorder.recordValue(latencyMicros);
+                    ok.increment();
+                }
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + requestTimeout.toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        ticker.shutdown();
+        ticker.awaitTermination(5, TimeUnit.SECONDS);
+        int unfinished = outstanding.get();
+        if (unfinished > 0) {
+            allRecorder.recordValueWithCount(timeoutMicros, unfinished);
+        }
+        interval(recorder, total, allRecorder, allTotal, log);
+
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((key, value) -> errorCounts.put(key, value.sum()));
+        if (unfinished > 0) {
+            errorCounts.put("unfinished", (long) unfinished);
+        }
+        return new Result(
+                scenario,
+                rate,
+                duration,
+                sent,
+                ok.sum(),
+                errorCounts,
+                total,
+                allTotal,
+                TimeUnit.NANOSECONDS.toMicros(maxLagNanos)
+        );
+    }
+
+    private static void interval(
+            Recorder recorder,
+            Histogram total,
+            Recorder allRecorder,
+            Histogram allTotal,
+            HistogramLogWriter log
+    ) {
+        Histogram interval = recorder.getIntervalHistogram();
+        Histogram allInterval = allRecorder.getIntervalHistogram();
+        synchronized (total) {
+            total.add(interval);
+            allTotal.add(allInterval);
+            if (log != null) {
+                log.outputIntervalHistogram(interval);
+            }
+        }
+    }
+
+    private static void count(ConcurrentHashMap<String, LongAdder> errors, String key) {
+        errors.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+    }
+
+    private static boolean contains(byte[] body, byte[] token) {
+        outer:
+        for (int i = 0; i <= body.length - token.length; i++) {
+            for (int j = 0; j < token.length; j++) {
+                if (body[i + j] != token[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public record Result(
+            Scenario scenario,
+            double targetRate,
+            Duration duration,
+            long sent,
+            long ok,
+            Map<String, Long> errors,
+            Histogram histogram,
+            Histogram allAttempts,
+            long maxDispatchLagMicros
+    ) {
+        public long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.demo.netflixoss.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class PerfHarness {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options = HarnessOptions.parse(args);
+        Files.createDirectories(options.outDir());
+
+        HttpClient plainClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        HttpClient mtlsClient = options.urls().values().stream().anyMatch(url -> url.startsWith("https:"))
+                ? HttpClient.newBuilder()
+                .sslContext(sslContext(options.certsDir(), options.storePassword().toCharArray()))
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build()
+                : plainClient;
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        HopMetrics hopMetrics = new HopMetrics(
+                options.urls(),
+                url -> url.startsWith("https:") ? mtlsClient : plainClient,
+                objectMapper
+        );
+
+        List<ScenarioReport> reports = new ArrayList<>();
+        for (Hop hop : options.hops()) {
+            for (Protocol protocol : options.protocols()) {
+                Optional<Scenario> scenario = Scenario.of(hop, protocol, options.url(hop));
+                if (scenario.isEmpty()) {
+                    continue;
+                }
+                HttpClient client = options.url(hop).startsWith("https:") ? mtlsClient : plainClient;
+                reports.add(run(scenario.get(), new OpenModelLoad(client, options.maxOutstanding(), options.requestTimeout()), hopMetrics, options));
+            }
+        }
+
+        Summary summary = new Summary(
+                Instant.now().toString(),
+                options.rate(),
+                options.duration().toString(),
+                options.warmup().toString(),
+                reports
+        );
+        objectMapper.writeValue(options.outDir().resolve("summary.json").toFile(), summary);
+        System.out.println("Reports written to " + options.outDir().toAbsolutePath());
+    }
+
+    private static ScenarioReport run(Scenario scenario, OpenModelLoad load, HopMetrics hopMetrics, HarnessOptions options)
+            throws IOException, InterruptedException {
+        if (!options.warmup().isZero()) {
+            System.out.printf("%-18s warmup %s at %.0f rps%n", scenario.name(), options.warmup(), options.rate());
+            load.run(scenario, options.rate(), options.warmup(), null);
+        }
+
+        Map<Hop, HopMetrics.Sample> before = hopMetrics.sample();
+        OpenModelLoad.Result result;
+        try (PrintStream logStream = new PrintStream(options.outDir().resolve(scenario.name() + ".hlog").toFile())) {
+            result = load.run(scenario, options.rate(), options.duration(), new HistogramLogWriter(logStream));
+        }
+        Map<Hop, HopMetrics.Sample> after = hopMetrics.sample();
+
+        try (PrintStream out = new PrintStream(options.outDir().resolve(scenario.name() + ".hgrm").toFile())) {
+            result.histogram().outputPercentileDistribution(out, 1000.0);
+        }
+        try (PrintStream out = new PrintStream(options.outDir().resolve(scenario.name() + "-all.hgrm").toFile())) {
+            result.allAttempts().outputPercentileDistribution(out, 1000.0);
+        }
+
+        ScenarioReport report = ScenarioReport.of(result, HopMetrics.delta(before, after, options.duration()));
+        System.out.printf(
+                "%-18s %8.1f rps  ok=%d errors=%d  p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms  all p99=%.2fms  %s%n",
+                scenario.name(),
+                report.throughputRps(),
+                report.ok(),
+                result.errorCount(),
+                report.latencyMs().p50(),
+                report.latencyMs().p99(),
+                report.latencyMs().p999(),
+                report.latencyMs().max(),
+                report.allAttemptsLatencyMs().p99(),
+                report.hops()
+        );
+        return report;
+    }
+
+    private static SSLContext sslContext(Path certsDir, char[] password) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = keyStore(certsDir.resolve("user-bff-client-keystore.p12"), password);
+        KeyStore trustStore = keyStore(certsDir.resolve("user-bff-client-truststore.p12"), password);
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, password);
+        TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagers.init(trustStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    private static KeyStore keyStore(Path path, char[] password) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore.load(in, password);
+        }
+        return keyStore;
+    }
+
+    public record Summary(
+            String generatedAt,
+            double targetRps,
+            String duration,
+            String warmup,
+            List<ScenarioReport> scenarios
+    ) {
+    }
+
+    public record ScenarioReport(
+            String scenario,
+            String hop,
+            String protocol,
+            double targetRps,
+            double throughputRps,
+            long sent,
+            long ok,
+            Map<String, Long> errors,
+            Latency latencyMs,
+            Latency allAttemptsLatencyMs,
+            double maxDispatchLagMs,
+            Map<String, HopMetrics.Stats> hops
+    ) {
+        static ScenarioReport of(OpenModelLoad.Result result, Map<String, HopMetrics.Stats> hops) {
+            return new ScenarioReport(
+                    result.scenario().name(),
+                    result.scenario().hop().tag(),
+                    result.scenario().protocol().tag(),
+                    result.targetRate(),
+                    Math.round(result.ok() * 10.0 / (result.duration().toNanos() / 1e9)) / 10.0,
+                    result.sent(),
+                    result.ok(),
+                    result.errors(),
+                    Latency.of(result.histogram()),
+                    Latency.of(result.allAttempts()),
+                    millis(result.maxDispatchLagMicros()),
+                    hops
+            );
+        }
+    }
+
+    public record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                    millis(histogram.getMean()),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+            );
+        }
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.demo.netflixoss.perf;
+
+import java.util.Locale;
+
+public enum Protocol {
+    REST,
+    GRAPHQL,
+    SOAP;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
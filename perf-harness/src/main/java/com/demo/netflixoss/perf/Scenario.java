@@ -0,0 +1,60 @@
+package com.demo.netflixoss.perf;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+public record Scenario(Hop hop, Protocol protocol, URI uri, String contentType, byte[] body, Map<String, String> headers) {
+    private static final String REST_BODY = """
+            {"type":"REST","message":"perf-harness","amount":123.0}""";
+    private static final String GRAPHQL_BODY = """
+            {"query":"{ process(type: \\"GRAPHQL\\", message: \\"perf-harness\\", amount: 456.0) { computedOutput clientCertificateSubject } }"}""";
+    private static final String SOAP_BODY = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <soapenv:Envelope xmlns:soapenv="http://schemas.xmlsoap.org/soap/envelope/" xmlns:pr="http://demo.netflixoss.com/userbff/process">
+              <soapenv:Body>
+                <pr:ProcessRequest>
+                  <pr:type>SOAP</pr:type>
+                  <pr:message>perf-harness</pr:message>
+                  <pr:amount>789.0</pr:amount>
+                </pr:ProcessRequest>
+              </soapenv:Body>
+            </soapenv:Envelope>
+            """;
+
+    public static Optional<Scenario> of(Hop hop, Protocol protocol, String baseUrl) {
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return switch (hop) {
+            case GATEWAY, BFF -> Optional.of(switch (protocol) {
+                case REST -> scenario(hop, protocol, base + "/api/rest/echo", "application/json", REST_BODY, Map.of());
+                case GRAPHQL -> scenario(hop, protocol, base + "/graphql", "application/json", GRAPHQL_BODY, Map.of());
+                case SOAP -> scenario(hop, protocol, base + "/ws", "text/xml; charset=utf-8", SOAP_BODY, Map.of());
+            });
+            case MIDDLEWARE -> protocol == Protocol.REST
+                    ? Optional.of(scenario(hop, protocol, base + "/middleware/process", "application/json", REST_BODY, Map.of()))
+                    : Optional.empty();
+            case BACKEND -> protocol == Protocol.REST
+                    ? Optional.of(scenario(hop, protocol, base + "/backend/process", "application/json", REST_BODY, Map.of(
+                            "X-Client-Subject", "CN=perf-harness",
+                            "X-Client-Serial", "0"
+                    )))
+                    : Optional.empty();
+        };
+    }
+
+    public String name() {
+        return hop.tag() + "-" + protocol.tag();
+    }
+
+    private static Scenario scenario(
+            Hop hop,
+            Protocol protocol,
+            String uri,
+            String contentType,
+            String body,
+            Map<String, String> headers
+    ) {
+        return new Scenario(hop, protocol, URI.create(uri), contentType, body.getBytes(StandardCharsets.UTF_8), headers);
+    }
+}
@@ -0,0 +1,175 @@
+import argparse
+import datetime as dt
+import json
+import os
+import shlex
+import statistics
+import subprocess
+import threading
+import time
+import urllib.error
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+from pathlib import Path
+
+ROOT = Path(__file__).resolve().parents[2]
+VERSION = "1.0.0-SNAPSHOT"
+APPLICATIONS = ("cloud-gateway", "user-bff", "mtls-middleware", "core-backend", "eureka-server")
+BASE_URL = "http://localhost:8888"
+BASELINE_ENV = {
+    "CONFIG_CACHE_ENABLED": "false",
+    "CONFIG_CACHE_ETAG": "false",
+}
+
+
+def now_iso() -> str:
+    return dt.datetime.utcnow().replace(tzinfo=dt.timezone.utc).isoformat()
+
+
+def http_ok(url: str) -> bool:
+    try:
+        with urllib.request.urlopen(url, timeout=5) as response:
+            return response.status == 200
+    except (urllib.error.URLError, ConnectionError, TimeoutError, OSError):
+        return False
+
+
+def fetch(path: str, etag: str = None, timeout: float = 60.0) -> dict:
+    headers = {"Accept": "application/vnd.spring-cloud.config-server.v2+json"}
+    if etag:
+        headers["If-None-Match"] = etag
+    started = time.monotonic()
+    try:
+        with urllib.request.urlopen(urllib.request.Request(BASE_URL + path, headers=headers), timeout=timeout) as response:
+            body = response.read()
+            status, response_etag = response.status, response.headers.get("ETag")
+    except urllib.error.HTTPError as e:
+        body, status, response_etag = b"", e.code, e.headers.get("ETag")
+    except (urllib.error.URLError, ConnectionError, TimeoutError, OSError):
+        body, status, response_etag = b"", 0, None
+    return {
+        "latencyMs": (time.monotonic() - started) * 1000.0,
+        "status": status,
+        "bytes": len(body),
+        "etag": response_etag,
+    }
+
+
+def percentile(values: list, p: float):
+    if not values:
+        return None
+    ordered = sorted(values)
+    return round(ordered[min(len(ordered) - 1, int(round(p / 100.0 * (len(ordered) - 1))))], 1)
+
+
+def burst(clients: int, profile: str, etags: dict = None) -> tuple:
+    barrier = threading.Barrier(clients)
+    paths = [f"/{APPLICATIONS[i % len(APPLICATIONS)]}/{profile}" for i in range(clients)]
+
+    def client(index: int) -> dict:
+        barrier.wait()
+        return fetch(paths[index], etags.get(index) if etags else None)
+
+    started = time.monotonic()
+    with ThreadPoolExecutor(max_workers=clients) as pool:
+        results = list(pool.map(client, range(clients)))
+    return results, (time.monotonic() - started) * 1000.0
+
+
+def summarize(results: list, wall_ms: float) -> dict:
+    latencies = [r["latencyMs"] for r in results]
+    statuses = {}
+    for r in results:
+        statuses[str(r["status"])] = statuses.get(str(r["status"]), 0) + 1
+    return {
+        "requests": len(results),
+        "statuses": statuses,
+        "bytes": sum(r["bytes"] for r in results),
+        "wallMs": round(wall_ms, 1),
+        "latencyMs": {
+            "mean": round(statistics.fmean(latencies), 1),
+            "p50": percentile(latencies, 50),
+            "p95": percentile(latencies, 95),
+            "p99": percentile(latencies, 99),
+            "max": percentile(latencies, 100),
+        },
+    }
+
+
+def run(args, mode: str, number: int, log_dir: Path) -> dict:
+    env = dict(os.environ)
+    env["CONFIG_REPO_PATH"] = f"file:{ROOT / 'config-repo'}"
+    if mode == "baseline":
+        env.update(BASELINE_ENV)
+    jar = ROOT / "services" / "config-server" / "target" / f"config-server-{VERSION}.jar"
+    log = open(log_dir / f"config-server-{mode}-{number}.log", "wb")
+    try:
+        process = subprocess.Popen(
+            ["java", *args.java_opts, "-jar", str(jar), "--eureka.client.enabled=false"],
+            cwd=ROOT,
+            env=env,
+            stdout=log,
+            stderr=subprocess.STDOUT,
+        )
+    finally:
+        log.close()
+    try:
+        deadline = time.monotonic() + args.startup_timeout_seconds
+        while not http_ok(BASE_URL + "/actuator/health"):
+            if process.poll() is not None or time.monotonic() > deadline:
+                raise RuntimeError(f"config-server did not become ready, see {log_dir}")
+            time.sleep(0.2)
+
+        cold, cold_wall = burst(args.clients, args.profile)
+        etags = {i: r["etag"] for i, r in enumerate(cold) if r["etag"]}
+        refresh, refresh_wall = burst(args.clients, args.profile, etags)
+        return {
+            "mode": mode,
+            "run": number,
+            "coldStart": summarize(cold, cold_wall),
+            "refresh": summarize(refresh, refresh_wall),
+        }
+    finally:
+        process.terminate()
+        try:
+            process.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            process.kill()
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Measure config-server under a cold fleet start of simulated config clients")
+    ap.add_argument("--modes", default="baseline,cached", help="comma-separated: baseline (no cache, no ETag) and cached")
+    ap.add_argument("--runs", type=int, default=3, help="config-server restarts per mode")
+    ap.add_argument("--clients", type=int, default=100)
+    ap.add_argument("--profile", default="local")
+    ap.add_argument("--startup-timeout-seconds", type=float, default=180.0)
+    ap.add_argument("--java-opts", default="-Xmx256m")
+    ap.add_argument("--out-dir", default=str(ROOT / "reports" / "config" / dt.datetime.utcnow().strftime("%Y%m%dT%H%M%SZ")))
+    args = ap.parse_args()
+    args.java_opts = shlex.split(args.java_opts)
+
+    out_dir = Path(args.out_dir)
+    log_dir = out_dir / "logs"
+    log_dir.mkdir(parents=True, exist_ok=True)
+
+    results = []
+    for mode in [m.strip() for m in args.modes.split(",") if m.strip()]:
+        for number in range(1, args.runs + 1):
+            result = run(args, mode, number, log_dir)
+            results.append(result)
+            print(json.dumps(result), flush=True)
+
+    report = {
+        "generatedAt": now_iso(),
+        "clients": args.clients,
+        "profile": args.profile,
+        "runs": results,
+    }
+    with open(out_dir / "summary.json", "w", encoding="utf-8") as f:
+        json.dump(report, f, indent=2)
+    print(f"Report written to {out_dir / 'summary.json'}")
+
+
+if __name__ == "__main__":
+    main()
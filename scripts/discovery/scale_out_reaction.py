@@ -0,0 +1,262 @@
+import argparse
+import datetime as dt
+import json
+import os
+import shlex
+import signal
+import subprocess
+import threading
+import time
+import urllib.error
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+from pathlib import Path
+
+ROOT = Path(__file__).resolve().parents[2]
+VERSION = "1.0.0-SNAPSHOT"
+STACK = (
+    ("config-server", "http://localhost:8888/actuator/health"),
+    ("eureka-server", "http://localhost:8761/actuator/health"),
+    ("core-backend", "http://localhost:8082/actuator/health"),
+    ("mtls-middleware", None),
+    ("user-bff", "http://localhost:8081/actuator/health"),
+    ("cloud-gateway", None),
+)
+REST_BODY = json.dumps({"type": "REST", "message": "scale-out", "amount": 1.0}).encode("utf-8")
+BASELINE_ENV = {
+    "EUREKA_LEASE_RENEWAL_INTERVAL": "30",
+    "EUREKA_LEASE_EXPIRATION": "90",
+    "EUREKA_REGISTRY_FETCH_INTERVAL": "30",
+    "EUREKA_INSTANCE_INFO_REPLICATION_INTERVAL": "30",
+    "EUREKA_USE_READ_ONLY_RESPONSE_CACHE": "true",
+    "EUREKA_EVICTION_INTERVAL_MS": "60000",
+    "REGISTRY_HEALTH_PROBE_ENABLED": "false",
+    "GATEWAY_DISCOVERY_PUSH_ENABLED": "false",
+    "GATEWAY_LB_CACHE_TTL": "35s",
+}
+
+
+def now_iso() -> str:
+    return dt.datetime.utcnow().replace(tzinfo=dt.timezone.utc).isoformat()
+
+
+def http_ok(url: str, data: bytes = None, timeout: float = 5.0) -> bool:
+    headers = {"Content-Type": "application/json"} if data is not None else {}
+    try:
+        with urllib.request.urlopen(urllib.request.Request(url, data=data, headers=headers), timeout=timeout) as response:
+            body = response.read()
+            return response.status == 200 and (data is None or b"processed(" in body)
+    except (urllib.error.URLError, ConnectionError, TimeoutError, OSError):
+        return False
+
+
+def wait_until(predicate, timeout_seconds: float, poll_seconds: float = 0.1):
+    deadline = time.monotonic() + timeout_seconds
+    while time.monotonic() < deadline:
+        if predicate():
+            return time.monotonic()
+        time.sleep(poll_seconds)
+    return None
+
+
+def up_instances(service: str) -> int:
+    return sum(1 for instance in eureka_instances(service) if instance.get("status") == "UP")
+
+
+def eureka_instances(service: str) -> list:
+    request = urllib.request.Request(
+        f"http://localhost:8761/eureka/apps/{service.upper()}",
+        headers={"Accept": "application/json"},
+    )
+    try:
+        with urllib.request.urlopen(request, timeout=5) as response:
+            instances = json.loads(response.read())["application"]["instance"]
+    except (urllib.error.URLError, ConnectionError, TimeoutError, OSError, KeyError, ValueError):
+        return []
+    return [instances] if isinstance(instances, dict) else instances
+
+
+def metric(port: int, name: str, statistic: str) -> float:
+    url = f"http://localhost:{port}/actuator/metrics/{name}?tag=method:POST"
+    try:
+        with urllib.request.urlopen(url, timeout=5) as response:
+            measurements = json.loads(response.read())["measurements"]
+    except (urllib.error.URLError, ConnectionError, TimeoutError, OSError, KeyError, ValueError):
+        return 0.0
+    return next((m["value"] for m in measurements if m["statistic"] == statistic), 0.0)
+
+
+def routed_requests(port: int) -> float:
+    return metric(port, "http.server.requests.active", "ACTIVE_TASKS") + metric(port, "http.server.requests", "COUNT")
+
+
+class Stack:
+    def __init__(self, args, env: dict, log_dir: Path):
+        self.args = args
+        self.env = env
+        self.log_dir = log_dir
+        self.processes = []
+
+    def start(self, service: str, name: str, extra_args=()) -> subprocess.Popen:
+        log = open(self.log_dir / f"{name}.log", "wb")
+        try:
+            process = subprocess.Popen(
+                ["java", *self.args.java_opts, "-jar", str(ROOT / "services" / service / "target" / f"{service}-{VERSION}.jar"), *extra_args],
+                cwd=ROOT,
+                env=self.env,
+                stdout=log,
+                stderr=subprocess.STDOUT,
+            )
+        finally:
+            log.close()
+        self.processes.append(process)
+        return process
+
+    def stop(self):
+        for process in reversed(self.processes):
+            if process.poll() is None:
+                process.terminate()
+        for process in self.processes:
+            try:
+                process.wait(timeout=30)
+            except subprocess.TimeoutExpired:
+                process.kill()
+
+
+class Load:
+    def __init__(self, url: str, rate: float):
+        self.url = url
+        self.interval = 1.0 / rate
+        self.results = []
+        self.lock = threading.Lock()
+        self.stopped = threading.Event()
+        self.pool = ThreadPoolExecutor(max_workers=32)
+        self.thread = threading.Thread(target=self.run, daemon=True)
+
+    def run(self):
+        next_send = time.monotonic()
+        while not self.stopped.is_set():
+            self.pool.submit(self.send, next_send)
+            next_send += self.interval
+            delay = next_send - time.monotonic()
+            if delay > 0:
+                self.stopped.wait(delay)
+
+    def send(self, sent_at: float):
+        ok = http_ok(self.url, REST_BODY, timeout=10)
+        with self.lock:
+            self.results.append((sent_at, time.monotonic(), ok))
+
+    def failures_between(self, start: float, end: float) -> list:
+        with self.lock:
+            return [result for result in self.results if start <= result[0] <= end and not result[2]]
+
+    def start(self):
+        self.thread.start()
+
+    def stop(self):
+        self.stopped.set()
+        self.thread.join()
+        self.pool.shutdown(wait=True)
+
+
+def ms(start: float, end: float):
+    return None if start is None or end is None else round((end - start) * 1000.0, 1)
+
+
+def cycle(stack: Stack, load: Load, args, number: int) -> dict:
+    port = args.instance_port
+    launched = time.monotonic()
+    instance = stack.start("user-bff", f"user-bff-{port}-{number}", [f"--server.port={port}"])
+    ready = wait_until(lambda: http_ok(f"http://localhost:{port}/actuator/health"), args.phase_timeout_seconds)
+    registered = wait_until(lambda: up_instances("user-bff") >= 2, args.phase_timeout_seconds)
+    first_request = wait_until(lambda: routed_requests(port) > 0, args.phase_timeout_seconds, poll_seconds=0.05)
+    result = {
+        "cycle": number,
+        "scaleOut": {
+            "readyAfterLaunchMs": ms(launched, ready),
+            "upInRegistryAfterReadyMs": ms(ready, registered),
+            "firstRoutedRequestAfterReadyMs": ms(ready, first_request),
+        },
+    }
+    time.sleep(args.settle_seconds)
+
+    killed = time.monotonic()
+    instance.send_signal(signal.SIGKILL)
+    instance.wait()
+    evicted = wait_until(lambda: len(eureka_instances("user-bff")) <= 1, args.phase_timeout_seconds, poll_seconds=0.2)
+    time.sleep(args.settle_seconds)
+    failures = load.failures_between(killed, time.monotonic())
+    result["crash"] = {
+        "evictedFromRegistryAfterMs": ms(killed, evicted),
+        "failedRequestsAfterKill": len(failures),
+        "lastFailedRequestAfterKillMs": ms(killed, failures[-1][0]) if failures else 0.0,
+    }
+    return result
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Measure how fast the gateway routes to a new user-bff instance and stops routing to a crashed one")
+    ap.add_argument("--baseline", action="store_true", help="use Eureka's stock intervals and turn off registry push and health probing")
+    ap.add_argument("--cycles", type=int, default=3)
+    ap.add_argument("--rate", type=float, default=20.0, help="requests per second through the gateway")
+    ap.add_argument("--instance-port", type=int, default=8091)
+    ap.add_argument("--settle-seconds", type=float, default=5.0)
+    ap.add_argument("--phase-timeout-seconds", type=float, default=240.0)
+    ap.add_argument("--java-opts", default="-Xmx384m")
+    ap.add_argument("--certs-dir", default=str(ROOT / "scripts" / "certs" / "out"))
+    ap.add_argument("--store-password", default=os.environ.get("MTLS_STOREPASS", "changeit"))
+    ap.add_argument("--out-dir", default=str(ROOT / "reports" / "discovery" / dt.datetime.utcnow().strftime("%Y%m%dT%H%M%SZ")))
+    args = ap.parse_args()
+    args.java_opts = shlex.split(args.java_opts)
+
+    out_dir = Path(args.out_dir)
+    log_dir = out_dir / "logs"
+    log_dir.mkdir(parents=True, exist_ok=True)
+    env = dict(os.environ)
+    env.update({
+        "CONFIG_REPO_PATH": f"file:{ROOT / 'config-repo'}",
+        "CERTS_DIR": str(Path(args.certs_dir).resolve()),
+        "MTLS_KEYSTORE_PASSWORD": args.store_password,
+        "MTLS_TRUSTSTORE_PASSWORD": args.store_password,
+    })
+    if args.baseline:
+        env.update(BASELINE_ENV)
+
+    gateway_url = "http://localhost:8080/api/rest/echo"
+    stack = Stack(args, env, log_dir)
+    results = []
+    try:
+        for service, health in STACK:
+            stack.start(service, service)
+            probe = (lambda url=health: http_ok(url)) if health else (lambda: True)
+            if wait_until(probe, args.phase_timeout_seconds, poll_seconds=1) is None:
+                raise RuntimeError(f"{service} did not become ready, see {log_dir / (service + '.log')}")
+        if wait_until(lambda: http_ok(gateway_url, REST_BODY), args.phase_timeout_seconds, poll_seconds=1) is None:
+            raise RuntimeError("no successful request through the gateway")
+
+        load = Load(gateway_url, args.rate)
+        load.start()
+        try:
+            for number in range(1, args.cycles + 1):
+                result = cycle(stack, load, args, number)
+                results.append(result)
+                print(json.dumps(result), flush=True)
+        finally:
+            load.stop()
+    finally:
+        stack.stop()
+
+    report = {
+        "generatedAt": now_iso(),
+        "mode": "baseline" if args.baseline else "push",
+        "rate": args.rate,
+        "cycles": results,
+    }
+    with open(out_dir / "summary.json", "w", encoding="utf-8") as f:
+        json.dump(report, f, indent=2)
+    print(f"Report written to {out_dir / 'summary.json'}")
+
+
+if __name__ == "__main__":
+    main()
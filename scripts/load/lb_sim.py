@@ -0,0 +1,77 @@
+import argparse
+import asyncio
+import json
+import time
+
+from slow_bff import Instance
+
+
+def parse_instance(spec: str) -> Instance:
+    parts = [int(p) for p in spec.split(":")]
+    if len(parts) not in (3, 5):
+        raise argparse.ArgumentTypeError("expected PORT:WORKERS:SERVICE_MS[:PAUSE_EVERY_MS:PAUSE_MS]")
+    return Instance(*parts)
+
+
+def snapshot(instances, previous, elapsed) -> list:
+    total = sum(i.requests - previous[i.port] for i in instances) or 1
+    rows = []
+    for instance in instances:
+        served = instance.requests - previous[instance.port]
+        rows.append({
+            "port": instance.port,
+            "profile": instance.describe(),
+            "requests": served,
+            "rps": round(served / elapsed, 1) if elapsed else 0.0,
+            "share": round(100.0 * served / total, 1),
+        })
+    return rows
+
+
+async def run(args) -> dict:
+    instances = args.instance
+    servers = [await instance.start(args.host) for instance in instances]
+    for instance in instances:
+        print(f"instance {args.host}:{instance.port}: {instance.describe()}")
+
+    started = time.monotonic()
+    previous = {i.port: 0 for i in instances}
+    last = started
+    while args.duration_seconds == 0 or time.monotonic() - started < args.duration_seconds:
+        await asyncio.sleep(args.report_seconds)
+        now = time.monotonic()
+        for row in snapshot(instances, previous, now - last):
+            print(f"  :{row['port']} {row['rps']:>8} rps {row['share']:>5}%  ({row['profile']})")
+        print()
+        previous = {i.port: i.requests for i in instances}
+        last = now
+
+    for server in servers:
+        server.close()
+    return {
+        "durationSeconds": round(time.monotonic() - started, 2),
+        "instances": snapshot(instances, {i.port: 0 for i in instances}, time.monotonic() - started),
+    }
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Several local user-bff stand-ins of different speed for load balancer runs")
+    ap.add_argument("--host", default="127.0.0.1")
+    ap.add_argument(
+        "--instance", type=parse_instance, action="append", required=True,
+        help="PORT:WORKERS:SERVICE_MS[:PAUSE_EVERY_MS:PAUSE_MS], repeat per instance",
+    )
+    ap.add_argument("--duration-seconds", type=int, default=0)
+    ap.add_argument("--report-seconds", type=int, default=10)
+    ap.add_argument("--out-json", default="")
+    args = ap.parse_args()
+
+    report = asyncio.run(run(args))
+    if args.out_json:
+        with open(args.out_json, "w", encoding="utf-8") as f:
+            json.dump(report, f, indent=2)
+    print(json.dumps(report, indent=2))
+
+
+if __name__ == "__main__":
+    main()
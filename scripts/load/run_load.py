@@ -0,0 +1,203 @@
+import argparse
+import asyncio
+import datetime as dt
+import json
+import ssl
+import sys
+import time
+import urllib.parse
+
+
+def now_iso() -> str:
+    return dt.datetime.utcnow().replace(tzinfo=dt.timezone.utc).isoformat()
+
+
+def build_ssl_context(ca_file: str, cert_file: str, key_file: str):
+    if not ca_file:
+        return None
+    ctx = ssl.create_default_context(cafile=ca_file)
+    ctx.check_hostname = False
+    if cert_file:
+        ctx.load_cert_chain(certfile=cert_file, keyfile=key_file)
+    return ctx
+
+
+def build_payload(protocol: str) -> tuple[str, bytes]:
+    if protocol == "graphql":
+        query = '{ process(type: "LOAD", message: "hello-load", amount: 123.0) { computedOutput clientCertificateSerial } }'
+        return "application/json", json.dumps({"query": query}).encode("utf-8")
+    if protocol == "soap":
+        envelope = (
+            '<?xml version="1.0" encoding="UTF-8"?>'
+            '<soapenv:Envelope xmlns:soapenv="http://schemas.xmlsoap.org/soap/envelope/" '
+            'xmlns:pr="http://demo.netflixoss.com/userbff/process">'
+            "<soapenv:Header/><soapenv:Body><pr:ProcessRequest>"
+            "<pr:type>LOAD</pr:type><pr:message>hello-load</pr:message><pr:amount>123.0</pr:amount>"
+            "</pr:ProcessRequest></soapenv:Body></soapenv:Envelope>"
+        )
+        return "text/xml; charset=utf-8", envelope.encode("utf-8")
+    return "application/json", json.dumps({"type": "LOAD", "message": "hello-load", "amount": 123.0}).encode("utf-8")
+
+
+async def read_response(reader: asyncio.StreamReader) -> tuple[int, bytes]:
+    status_line = await reader.readline()
+    if not status_line:
+        raise ConnectionError("connection closed by peer")
+    status = int(status_line.split(b" ", 2)[1])
+
+    headers = {}
+    while True:
+        line = await reader.readline()
+        if line in (b"\r\n", b"\n", b""):
+            break
+        name, _, value = line.decode("latin-1").partition(":")
+        headers[name.strip().lower()] = value.strip()
+
+    if headers.get("transfer-encoding", "").lower() == "chunked":
+        body = bytearray()
+        while True:
+            size = int((await reader.readline()).split(b";", 1)[0], 16)
+            if size == 0:
+                await reader.readline()
+                break
+            body += await reader.readexactly(size)
+            await reader.readline()
+        return status, bytes(body)
+
+    length = int(headers.get("content-length", "0"))
+    return status, await reader.readexactly(length)
+
+
+async def open_connection(url, ssl_ctx):
+    parsed = urllib.parse.urlparse(url)
+    port = parsed.port or (443 if parsed.scheme == "https" else 80)
+    return await asyncio.open_connection(
+        parsed.hostname, port, ssl=ssl_ctx if parsed.scheme == "https" else None
+    )
+
+
+async def client_loop(url, ssl_ctx, connection, content_type: str, payload: bytes, start: asyncio.Event, deadline: list, results: dict, error_backoff: float, headers: list):
+    parsed = urllib.parse.urlparse(url)
+    port = parsed.port or (443 if parsed.scheme == "https" else 80)
+    request_head = (
+        f"POST {parsed.path} HTTP/1.1\r\n"
+        f"Host: {parsed.hostname}:{port}\r\n"
+        f"Content-Type: {content_type}\r\n"
+        f"Content-Length: {len(payload)}\r\n"
+        + "".join(f"{h}\r\n" for h in headers)
+        + "\r\n"
+    ).encode("ascii")
+
+    reader, writer = connection
+    await start.wait()
+    while time.monotonic() < deadline[0]:
+        try:
+            if writer is None:
+                reader, writer = await open_connection(url, ssl_ctx)
+            started = time.perf_counter()
+            writer.write(request_head + payload)
+            await writer.drain()
+            status, _ = await read_response(reader)
+            elapsed_ms = (time.perf_counter() - started) * 1000.0
+            if status == 200:
+                results["latencies"].append(elapsed_ms)
+            else:
+                results["errors"] += 1
+                results["statuses"][status] = results["statuses"].get(status, 0) + 1
+                if error_backoff:
+                    await asyncio.sleep(error_backoff)
+        except Exception:
+            results["errors"] += 1
+            if writer is not None:
+                writer.close()
+            reader = writer = None
+            await asyncio.sleep(0.05)
+
+    if writer is not None:
+        writer.close()
+
+
+def percentile(sorted_values: list, pct: float) -> float:
+    if not sorted_values:
+        return 0.0
+    index = min(len(sorted_values) - 1, int(round(pct / 100.0 * (len(sorted_values) - 1))))
+    return sorted_values[index]
+
+
+async def run(args) -> dict:
+    ssl_ctx = build_ssl_context(args.ca_cert, args.client_cert, args.client_key)
+    content_type, payload = build_payload(args.protocol)
+    results = {"latencies": [], "errors": 0, "statuses": {}}
+
+    handshakes = asyncio.Semaphore(args.connect_parallelism)
+
+    async def connect():
+        async with handshakes:
+            return await open_connection(args.url, ssl_ctx)
+
+    connections = await asyncio.gather(*(connect() for _ in range(args.concurrency)))
+
+    start = asyncio.Event()
+    deadline = [0.0]
+    clients = [
+        asyncio.create_task(client_loop(
+            args.url, ssl_ctx, conn, content_type, payload, start, deadline, results, args.error_backoff_ms / 1000.0, args.header
+        ))
+        for conn in connections
+    ]
+    started = time.monotonic()
+    deadline[0] = started + args.duration_seconds
+    start.set()
+    await asyncio.gather(*clients)
+    wall_seconds = time.monotonic() - started
+
+    latencies = sorted(results["latencies"])
+    return {
+        "generatedAt": now_iso(),
+        "label": args.label,
+        "protocol": args.protocol,
+        "url": args.url,
+        "concurrency": args.concurrency,
+        "durationSeconds": round(wall_seconds, 2),
+        "requests": len(latencies),
+        "errors": results["errors"],
+        "errorStatuses": {str(k): v for k, v in sorted(results["statuses"].items())},
+        "throughputRps": round(len(latencies) / wall_seconds, 1) if wall_seconds else 0.0,
+        "latencyMs": {
+            "p50": round(percentile(latencies, 50), 2),
+            "p90": round(percentile(latencies, 90), 2),
+            "p99": round(percentile(latencies, 99), 2),
+            "p999": round(percentile(latencies, 99.9), 2),
+            "max": round(latencies[-1], 2) if latencies else 0.0,
+        },
+    }
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Closed-model keep-alive load test for the process endpoints")
+    ap.add_argument("--url", default="https://localhost:8443/middleware/process")
+    ap.add_argument("--protocol", choices=("rest", "graphql", "soap"), default="rest")
+    ap.add_argument("--ca-cert", default="")
+    ap.add_argument("--client-cert", default="")
+    ap.add_argument("--client-key", default="")
+    ap.add_argument("--concurrency", type=int, default=1000)
+    ap.add_argument("--duration-seconds", type=int, default=60)
+    ap.add_argument("--connect-parallelism", type=int, default=50)
+    ap.add_argument("--error-backoff-ms", type=int, default=0)
+    ap.add_argument("--header", action="append", default=[], help="extra request header, e.g. 'Cache-Control: max-age=30'")
+    ap.add_argument("--label", default="run")
+    ap.add_argument("--out-json", required=True)
+    args = ap.parse_args()
+
+    report = asyncio.run(run(args))
+
+    with open(args.out_json, "w", encoding="utf-8") as f:
+        json.dump(report, f, indent=2)
+
+    print(json.dumps(report, indent=2))
+    if report["requests"] == 0:
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,113 @@
+import argparse
+import datetime as dt
+import json
+import socket
+import subprocess
+import sys
+import threading
+import time
+import urllib.parse
+
+
+def now_iso() -> str:
+    return dt.datetime.utcnow().replace(tzinfo=dt.timezone.utc).isoformat()
+
+
+def heap_used_kb(pid: str) -> float:
+    out = subprocess.run(["jstat", "-gc", pid], capture_output=True, text=True, check=True).stdout.split("\n")
+    values = dict(zip(out[0].split(), out[1].split()))
+    return sum(float(values[k]) for k in ("S0U", "S1U", "EU", "OU"))
+
+
+def send_records(sock: socket.socket, count: int):
+    line = json.dumps({"type": "STREAM", "message": "hello-stream", "amount": 123.0}).encode("utf-8") + b"\n"
+    per_chunk = 64
+    chunk = line * per_chunk
+    framed = f"{len(chunk):x}\r\n".encode("ascii") + chunk + b"\r\n"
+    sent = 0
+    while sent + per_chunk <= count:
+        sock.sendall(framed)
+        sent += per_chunk
+    if sent < count:
+        rest = line * (count - sent)
+        sock.sendall(f"{len(rest):x}\r\n".encode("ascii") + rest + b"\r\n")
+    sock.sendall(b"0\r\n\r\n")
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Streams NDJSON records through /api/rest/echo/stream and samples JVM heap")
+    ap.add_argument("--url", default="http://localhost:8081/api/rest/echo/stream")
+    ap.add_argument("--count", type=int, default=10_000_000)
+    ap.add_argument("--jvm-pid", action="append", default=[], help="name=pid of a JVM to sample with jstat")
+    ap.add_argument("--sample-seconds", type=float, default=5.0)
+    ap.add_argument("--out-json", required=True)
+    args = ap.parse_args()
+
+    parsed = urllib.parse.urlparse(args.url)
+    sock = socket.create_connection((parsed.hostname, parsed.port or 80))
+    sock.sendall(
+        (
+            f"POST {parsed.path} HTTP/1.1\r\n"
+            f"Host: {parsed.netloc}\r\n"
+            "Content-Type: application/x-ndjson\r\n"
+            "Accept: application/x-ndjson\r\n"
+            "Transfer-Encoding: chunked\r\n"
+            "\r\n"
+        ).encode("ascii")
+    )
+
+    pids = dict(item.split("=", 1) for item in args.jvm_pid)
+    heap_samples = {name: [] for name in pids}
+    received = 0
+    started = time.monotonic()
+    sender = threading.Thread(target=send_records, args=(sock, args.count), daemon=True)
+    sender.start()
+
+    reader = sock.makefile("rb")
+    status_line = reader.readline()
+    while reader.readline() not in (b"\r\n", b""):
+        pass
+
+    next_sample = started
+    buffered = b""
+    while True:
+        size_line = reader.readline()
+        if not size_line:
+            break
+        size = int(size_line.split(b";", 1)[0], 16)
+        if size == 0:
+            break
+        buffered += reader.read(size)
+        reader.readline()
+        received += buffered.count(b"\n")
+        buffered = buffered[buffered.rfind(b"\n") + 1:]
+
+        if time.monotonic() >= next_sample:
+            for name, pid in pids.items():
+                heap_samples[name].append(round(heap_used_kb(pid) / 1024.0, 1))
+            next_sample = time.monotonic() + args.sample_seconds
+
+    elapsed = time.monotonic() - started
+    report = {
+        "generatedAt": now_iso(),
+        "url": args.url,
+        "status": status_line.decode("latin-1").strip(),
+        "sent": args.count,
+        "received": received,
+        "durationSeconds": round(elapsed, 2),
+        "recordsPerSecond": round(received / elapsed, 1) if elapsed else 0.0,
+        "heapUsedMb": {
+            name: {"min": min(s), "max": max(s), "samples": s} for name, s in heap_samples.items() if s
+        },
+    }
+
+    with open(args.out_json, "w", encoding="utf-8") as f:
+        json.dump(report, f, indent=2)
+
+    print(json.dumps({k: v for k, v in report.items() if k != "heapUsedMb"}, indent=2))
+    if received != args.count:
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()
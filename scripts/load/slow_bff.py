@@ -0,0 +1,104 @@
+import argparse
+import asyncio
+import json
+
+
+RESPONSE_BODY = json.dumps({
+    "original": {"type": "LOAD", "message": "hello-load", "amount": 123.0},
+    "computedOutput": "slow-bff",
+}).encode("utf-8")
+
+
+class Instance:
+    def __init__(self, port: int, workers: int, service_ms: int, pause_every_ms: int = 0, pause_ms: int = 0):
+        self.port = port
+        self.workers = asyncio.Semaphore(workers)
+        self.worker_count = workers
+        self.service_seconds = service_ms / 1000.0
+        self.service_ms = service_ms
+        self.pause_every_ms = pause_every_ms
+        self.pause_ms = pause_ms
+        self.running = asyncio.Event()
+        self.running.set()
+        self.requests = 0
+
+    def describe(self) -> str:
+        text = f"{self.worker_count} workers x {self.service_ms}ms"
+        if self.pause_every_ms and self.pause_ms:
+            text += f", {self.pause_ms}ms pause every {self.pause_every_ms}ms"
+        return text
+
+    async def pauses(self):
+        while True:
+            await asyncio.sleep(self.pause_every_ms / 1000.0)
+            self.running.clear()
+            await asyncio.sleep(self.pause_ms / 1000.0)
+            self.running.set()
+
+    async def handle(self, reader: asyncio.StreamReader, writer: asyncio.StreamWriter):
+        try:
+            while await read_request(reader):
+                await self.running.wait()
+                async with self.workers:
+                    await asyncio.sleep(self.service_seconds)
+                await self.running.wait()
+                self.requests += 1
+                writer.write(
+                    b"HTTP/1.1 200 OK\r\n"
+                    b"Content-Type: application/json\r\n"
+                    + f"Content-Length: {len(RESPONSE_BODY)}\r\n\r\n".encode("ascii")
+                    + RESPONSE_BODY
+                )
+                await writer.drain()
+        except (ConnectionError, asyncio.IncompleteReadError):
+            pass
+        finally:
+            writer.close()
+
+    async def start(self, host: str):
+        if self.pause_every_ms and self.pause_ms:
+            asyncio.create_task(self.pauses())
+        return await asyncio.start_server(self.handle, host, self.port)
+
+
+async def read_request(reader: asyncio.StreamReader) -> bool:
+    request_line = await reader.readline()
+    if not request_line:
+        return False
+
+    length = 0
+    while True:
+        line = await reader.readline()
+        if line in (b"\r\n", b"\n", b""):
+            break
+        name, _, value = line.decode("latin-1").partition(":")
+        if name.strip().lower() == "content-length":
+            length = int(value.strip())
+    if length:
+        await reader.readexactly(length)
+    return True
+
+
+async def serve(args):
+    instance = Instance(args.port, args.workers, args.service_ms, args.pause_every_ms, args.pause_ms)
+    server = await instance.start(args.host)
+    print(f"slow user-bff on {args.host}:{args.port}: {instance.describe()} "
+          f"(capacity ~{args.workers * 1000 // max(1, args.service_ms)} rps)")
+    async with server:
+        await server.serve_forever()
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Stand-in for a slowed-down user-bff with a fixed worker pool")
+    ap.add_argument("--host", default="127.0.0.1")
+    ap.add_argument("--port", type=int, default=9081)
+    ap.add_argument("--workers", type=int, default=8)
+    ap.add_argument("--service-ms", type=int, default=20)
+    ap.add_argument("--pause-every-ms", type=int, default=0)
+    ap.add_argument("--pause-ms", type=int, default=0)
+    args = ap.parse_args()
+    asyncio.run(serve(args))
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,42 @@
+import argparse
+import os
+import random
+import signal
+import time
+
+
+def stall(pid: int, every_ms: int, pause_ms: int, jitter: float, duration_seconds: int):
+    started = time.monotonic()
+    pauses = 0
+    try:
+        while duration_seconds == 0 or time.monotonic() - started < duration_seconds:
+            time.sleep(every_ms / 1000.0 * random.uniform(1.0 - jitter, 1.0 + jitter))
+            os.kill(pid, signal.SIGSTOP)
+            try:
+                time.sleep(pause_ms / 1000.0)
+            finally:
+                os.kill(pid, signal.SIGCONT)
+            pauses += 1
+    except KeyboardInterrupt:
+        pass
+    finally:
+        os.kill(pid, signal.SIGCONT)
+    return pauses
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Freeze a local JVM periodically to mimic a GC-pausing or noisy-neighbour instance")
+    ap.add_argument("--pid", type=int, required=True)
+    ap.add_argument("--every-ms", type=int, default=2000)
+    ap.add_argument("--pause-ms", type=int, default=100)
+    ap.add_argument("--jitter", type=float, default=0.5)
+    ap.add_argument("--duration-seconds", type=int, default=0)
+    args = ap.parse_args()
+
+    print(f"stalling pid {args.pid} for {args.pause_ms}ms every ~{args.every_ms}ms")
+    pauses = stall(args.pid, args.every_ms, args.pause_ms, args.jitter, args.duration_seconds)
+    print(f"{pauses} pauses")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/../.." && pwd)"
+CERTS_DIR="${CERTS_DIR:-${ROOT}/scripts/certs/out}"
+OUT_DIR="${OUT_DIR:-${ROOT}/reports/perf/$(date -u +%Y%m%dT%H%M%SZ)}"
+JAVA_OPTS="${PERF_JAVA_OPTS:--Xmx512m}"
+MTLS_STOREPASS="${MTLS_STOREPASS:-changeit}"
+VERSION="1.0.0-SNAPSHOT"
+SERVICES=(config-server eureka-server core-backend mtls-middleware user-bff cloud-gateway)
+SKIP_BUILD=false
+HARNESS_ARGS=()
+PIDS=()
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    --skip-build)
+      SKIP_BUILD=true
+      shift
+      ;;
+    *)
+      HARNESS_ARGS+=("$1")
+      shift
+      ;;
+  esac
+done
+
+stop_services() {
+  if [[ ${#PIDS[@]} -gt 0 ]]; then
+    kill "${PIDS[@]}" 2>/dev/null || true
+    wait "${PIDS[@]}" 2>/dev/null || true
+  fi
+}
+trap stop_services EXIT
+
+wait_for() {
+  local name="$1"
+  shift
+  local start
+  start="$(date +%s)"
+  echo "Waiting for ${name} ..."
+  until curl -fsS --max-time 5 -o /dev/null "$@" 2>/dev/null; do
+    if (( "$(date +%s)" - start > 300 )); then
+      echo "Timed out waiting for ${name}; see ${OUT_DIR}/logs/${name}.log" >&2
+      exit 1
+    fi
+    sleep 3
+  done
+}
+
+start_service() {
+  local name="$1"
+  (
+    cd "${ROOT}"
+    CERTS_DIR="${CERTS_DIR}" CONFIG_REPO_PATH="file:${ROOT}/config-repo" MTLS_KEYSTORE_PASSWORD="${MTLS_STOREPASS}" \
+      MTLS_TRUSTSTORE_PASSWORD="${MTLS_STOREPASS}" \
+      exec java ${JAVA_OPTS} -jar "services/${name}/target/${name}-${VERSION}.jar"
+  ) > "${OUT_DIR}/logs/${name}.log" 2>&1 &
+  PIDS+=("$!")
+}
+
+mkdir -p "${OUT_DIR}/logs"
+
+if [[ ! -f "${CERTS_DIR}/user-bff-client-keystore.p12" ]]; then
+  MTLS_STOREPASS="${MTLS_STOREPASS}" bash "${ROOT}/scripts/certs/generate-certs.sh" "${CERTS_DIR}"
+fi
+
+if [[ "${SKIP_BUILD}" == false ]]; then
+  (
+    cd "${ROOT}"
+    mvn -B -q -DskipTests clean package spring-boot:repackage -pl "$(printf 'services/%s,' "${SERVICES[@]}" | sed 's/,$//')"
+    mvn -B -q -Pperf -DskipTests package -pl perf-harness
+  )
+fi
+
+start_service config-server
+wait_for config-server http://localhost:8888/actuator/health
+start_service eureka-server
+wait_for eureka-server http://localhost:8761/actuator/health
+start_service core-backend
+start_service mtls-middleware
+start_service user-bff
+start_service cloud-gateway
+wait_for core-backend http://localhost:8082/actuator/health
+wait_for mtls-middleware https://localhost:8443/actuator/health \
+  --cacert "${CERTS_DIR}/root-ca.crt" --cert "${CERTS_DIR}/user-bff-client.crt" --key "${CERTS_DIR}/user-bff-client.key"
+wait_for user-bff http://localhost:8081/actuator/health
+wait_for cloud-gateway http://localhost:8080/actuator/health
+wait_for cloud-gateway -X POST http://localhost:8080/api/rest/echo -H "Content-Type: application/json" \
+  -d '{"type":"REST","message":"perf-ready","amount":1.0}'
+
+java -jar "${ROOT}/perf-harness/target/perf-harness.jar" \
+  --certs-dir "${CERTS_DIR}" --store-password "${MTLS_STOREPASS}" --out-dir "${OUT_DIR}" \
+  ${HARNESS_ARGS[@]+"${HARNESS_ARGS[@]}"}
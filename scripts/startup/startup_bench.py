@@ -0,0 +1,257 @@
+import argparse
+import datetime as dt
+import json
+import os
+import re
+import shlex
+import ssl
+import statistics
+import subprocess
+import sys
+import tempfile
+import time
+import urllib.error
+import urllib.request
+import zipfile
+from pathlib import Path
+
+ROOT = Path(__file__).resolve().parents[2]
+VERSION = "1.0.0-SNAPSHOT"
+SERVICES = ("config-server", "eureka-server", "core-backend", "mtls-middleware", "user-bff", "cloud-gateway")
+MODES = ("jar", "aot", "cds", "crac")
+REST_BODY = json.dumps({"type": "REST", "message": "startup-bench", "amount": 1.0}).encode("utf-8")
+STARTED = re.compile(r"Started \S+ in ([0-9.]+) seconds")
+
+
+def now_iso() -> str:
+    return dt.datetime.utcnow().replace(tzinfo=dt.timezone.utc).isoformat()
+
+
+def probe_request(service: str) -> urllib.request.Request:
+    if service == "config-server":
+        return urllib.request.Request("http://localhost:8888/actuator/health")
+    if service == "eureka-server":
+        return urllib.request.Request("http://localhost:8761/actuator/health")
+    headers = {"Content-Type": "application/json"}
+    if service == "core-backend":
+        headers.update({"X-Client-Subject": "CN=startup-bench", "X-Client-Serial": "0"})
+        return urllib.request.Request("http://localhost:8082/backend/process", data=REST_BODY, headers=headers)
+    if service == "mtls-middleware":
+        return urllib.request.Request("https://localhost:8443/middleware/process", data=REST_BODY, headers=headers)
+    port = 8081 if service == "user-bff" else 8080
+    return urllib.request.Request(f"http://localhost:{port}/api/rest/echo", data=REST_BODY, headers=headers)
+
+
+def build_ssl_context(certs_dir: Path):
+    ctx = ssl.create_default_context(cafile=str(certs_dir / "root-ca.crt"))
+    ctx.check_hostname = False
+    ctx.load_cert_chain(certfile=str(certs_dir / "user-bff-client.crt"), keyfile=str(certs_dir / "user-bff-client.key"))
+    return ctx
+
+
+def probe(service: str, ssl_ctx) -> bool:
+    try:
+        with urllib.request.urlopen(probe_request(service), timeout=5, context=ssl_ctx) as response:
+            body = response.read()
+            return response.status == 200 and (service in ("config-server", "eureka-server") or b"processed(" in body)
+    except (urllib.error.URLError, ConnectionError, TimeoutError, ssl.SSLError, OSError):
+        return False
+
+
+def target_dir(service: str) -> Path:
+    return ROOT / "services" / service / "target"
+
+
+def jar_path(service: str) -> Path:
+    return target_dir(service) / f"{service}-{VERSION}.jar"
+
+
+def has_aot(service: str) -> bool:
+    with zipfile.ZipFile(jar_path(service)) as jar:
+        return any(name.endswith("__ApplicationContextInitializer.class") for name in jar.namelist())
+
+
+def crac_supported() -> bool:
+    result = subprocess.run(
+        ["java", "-XX:CRaCCheckpointTo=" + tempfile.gettempdir(), "-version"],
+        stdout=subprocess.DEVNULL,
+        stderr=subprocess.DEVNULL,
+    )
+    return result.returncode == 0
+
+
+def command(service: str, mode: str, java_opts: list) -> list:
+    target = target_dir(service)
+    if mode == "crac":
+        return ["java", f"-XX:CRaCRestoreFrom={target / 'crac'}"]
+    flags = list(java_opts)
+    if mode in ("aot", "cds") and has_aot(service):
+        flags.append("-Dspring.aot.enabled=true")
+    if mode == "cds":
+        flags.append(f"-XX:SharedArchiveFile={target / (service + '.jsa')}")
+    return ["java", *flags, "-jar", str(jar_path(service))]
+
+
+def service_env(certs_dir: Path, store_password: str) -> dict:
+    env = dict(os.environ)
+    env.update({
+        "CONFIG_REPO_PATH": f"file:{ROOT / 'config-repo'}",
+        "CERTS_DIR": str(certs_dir),
+        "MTLS_KEYSTORE_PASSWORD": store_password,
+        "MTLS_TRUSTSTORE_PASSWORD": store_password,
+    })
+    return env
+
+
+def stop(process: subprocess.Popen):
+    if process.poll() is None:
+        process.terminate()
+        try:
+            process.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            process.kill()
+            process.wait()
+
+
+def start(service: str, mode: str, args, env: dict, log_path: Path) -> subprocess.Popen:
+    log = open(log_path, "wb")
+    try:
+        return subprocess.Popen(command(service, mode, args.java_opts), cwd=ROOT, env=env, stdout=log, stderr=subprocess.STDOUT)
+    finally:
+        log.close()
+
+
+def checkpoint(service: str, args, env: dict, log_dir: Path):
+    directory = target_dir(service) / "crac"
+    if directory.exists():
+        return
+    cmd = [
+        "java",
+        *args.java_opts,
+        f"-XX:CRaCCheckpointTo={directory}",
+        f"-Dspring.aot.enabled={str(has_aot(service)).lower()}",
+        "-Dspring.context.checkpoint=onRefresh",
+        "-jar",
+        str(jar_path(service)),
+    ]
+    with open(log_dir / f"{service}-checkpoint.log", "wb") as log:
+        subprocess.run(cmd, cwd=ROOT, env=env, stdout=log, stderr=subprocess.STDOUT, timeout=args.timeout_seconds)
+
+
+def measure(service: str, mode: str, run: int, args, env: dict, ssl_ctx, log_dir: Path) -> dict:
+    log_path = log_dir / f"{service}-{mode}-{run}.log"
+    started = time.monotonic()
+    process = start(service, mode, args, env, log_path)
+    try:
+        deadline = started + args.timeout_seconds
+        while time.monotonic() < deadline:
+            if process.poll() is not None:
+                return {"run": run, "error": f"exited with {process.returncode}", "log": str(log_path)}
+            if probe(service, ssl_ctx):
+                ttfr_ms = (time.monotonic() - started) * 1000.0
+                match = STARTED.search(log_path.read_text(errors="replace"))
+                return {
+                    "run": run,
+                    "timeToFirstRequestMs": round(ttfr_ms, 1),
+                    "springStartedSeconds": float(match.group(1)) if match else None,
+                    "log": str(log_path),
+                }
+            time.sleep(args.poll_ms / 1000.0)
+        return {"run": run, "error": "timed out", "log": str(log_path)}
+    finally:
+        stop(process)
+
+
+def wait_ready(service: str, ssl_ctx, timeout_seconds: int):
+    deadline = time.monotonic() + timeout_seconds
+    while time.monotonic() < deadline:
+        if probe(service, ssl_ctx):
+            return
+        time.sleep(1)
+    raise RuntimeError(f"{service} did not become ready within {timeout_seconds}s")
+
+
+def summarize(runs: list) -> dict:
+    values = sorted(run["timeToFirstRequestMs"] for run in runs if "timeToFirstRequestMs" in run)
+    if not values:
+        return {"ok": 0}
+    return {
+        "ok": len(values),
+        "minMs": values[0],
+        "medianMs": round(statistics.median(values), 1),
+        "maxMs": values[-1],
+    }
+
+
+def main():
+    ap = argparse.ArgumentParser(description="Measure time from JVM launch to the first successful request for each service")
+    ap.add_argument("--services", default=",".join(SERVICES))
+    ap.add_argument("--modes", default="jar,aot,cds", help=f"comma separated, from {','.join(MODES)}")
+    ap.add_argument("--runs", type=int, default=3)
+    ap.add_argument("--timeout-seconds", type=int, default=300)
+    ap.add_argument("--poll-ms", type=int, default=50)
+    ap.add_argument("--java-opts", default="", help="extra JVM flags for every launch, e.g. '-Xmx512m'")
+    ap.add_argument("--certs-dir", default=str(ROOT / "scripts" / "certs" / "out"))
+    ap.add_argument("--store-password", default=os.environ.get("MTLS_STOREPASS", "changeit"))
+    ap.add_argument("--out-dir", default=str(ROOT / "reports" / "startup" / dt.datetime.utcnow().strftime("%Y%m%dT%H%M%SZ")))
+    args = ap.parse_args()
+    args.java_opts = shlex.split(args.java_opts)
+
+    selected = [service.strip() for service in args.services.split(",") if service.strip()]
+    modes = [mode.strip() for mode in args.modes.split(",") if mode.strip()]
+    for name in selected:
+        if name not in SERVICES:
+            ap.error(f"unknown service: {name}")
+    for mode in modes:
+        if mode not in MODES:
+            ap.error(f"unknown mode: {mode}")
+    if "crac" in modes and not crac_supported():
+        print("This JVM does not support CRaC; skipping the crac mode.", file=sys.stderr)
+        modes.remove("crac")
+
+    certs_dir = Path(args.certs_dir).resolve()
+    out_dir = Path(args.out_dir)
+    log_dir = out_dir / "logs"
+    log_dir.mkdir(parents=True, exist_ok=True)
+    env = service_env(certs_dir, args.store_password)
+    ssl_ctx = build_ssl_context(certs_dir)
+
+    last = max(SERVICES.index(name) for name in selected)
+    background = []
+    results = []
+    try:
+        for service in SERVICES[: last + 1]:
+            if service in selected:
+                for mode in modes:
+                    if mode == "aot" and not has_aot(service):
+                        print(f"{service:16} {mode:5} skipped, the jar was built without AOT", flush=True)
+                        continue
+                    if mode == "crac":
+                        checkpoint(service, args, env, log_dir)
+                    runs = [measure(service, mode, run, args, env, ssl_ctx, log_dir) for run in range(1, args.runs + 1)]
+                    summary = summarize(runs)
+                    results.append({"service": service, "mode": mode, **summary, "runs": runs})
+                    print(f"{service:16} {mode:5} " + (
+                        f"median={summary['medianMs']:.0f}ms min={summary['minMs']:.0f}ms max={summary['maxMs']:.0f}ms ok={summary['ok']}/{args.runs}"
+                        if summary["ok"] else f"no successful run, see {runs[-1]['log']}"
+                    ), flush=True)
+            if SERVICES.index(service) < last:
+                background.append(start(service, "jar", args, env, log_dir / f"{service}-dependency.log"))
+                wait_ready(service, ssl_ctx, args.timeout_seconds)
+    finally:
+        for process in reversed(background):
+            stop(process)
+
+    report = {
+        "generatedAt": now_iso(),
+        "runsPerMode": args.runs,
+        "javaOpts": args.java_opts,
+        "results": results,
+    }
+    with open(out_dir / "summary.json", "w", encoding="utf-8") as f:
+        json.dump(report, f, indent=2)
+    print(f"Report written to {out_dir / 'summary.json'}")
+
+
+if __name__ == "__main__":
+    main()
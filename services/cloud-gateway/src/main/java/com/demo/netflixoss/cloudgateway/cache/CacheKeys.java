@@ -0,0 +1,176 @@
+package com.demo.netflixoss.cloudgateway.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CacheKeys {
+    private static final String PUNCTUATORS = "!$&()...:=@[]{|}";
+
+    private final ObjectMapper canonicalMapper;
+
+    public CacheKeys(ObjectMapper objectMapper) {
+        this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    public String key(String method, String path, String accept, byte[] body, boolean graphql) {
+        byte[] normalized = body;
+        try {
+            Object value = canonicalMapper.readValue(body, Object.class);
+            if (graphql) {
+                if (!(value instanceof Map<?, ?> request) || !(request.get("query") instanceof String query)) {
+                    return null;
+                }
+                String normalizedQuery = normalizeQuery(query);
+                if (!readOnly(normalizedQuery)) {
+                    return null;
+                }
+                Map<Object, Object> copy = new LinkedHashMap<>(request);
+                copy.put("query", normalizedQuery);
+                value = copy;
+            }
+            normalized = canonicalMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            if (graphql) {
+                return null;
+            }
+        }
+
+        MessageDigest digest = sha256();
+        digest.update((method + '\n' + path + '\n' + (accept == null ? "" : accept) + '\n').getBytes(StandardCharsets.UTF_8));
+        digest.update(normalized);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public boolean carriesErrors(byte[] body) {
+        try {
+            JsonNode node = canonicalMapper.readTree(body);
+            return node != null && node.isObject() && node.has("errors");
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static String normalizeQuery(String query) {
+        String normalized = collapse(query);
+        return normalized.startsWith("query{") ? normalized.substring("query".length()) : normalized;
+    }
+
+    private static String collapse(String query) {
+        StringBuilder out = new StringBuilder(query.length());
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (c == '#') {
+                while (i < query.length() && query.charAt(i) != '\n' && query.charAt(i) != '\r') {
+                    i++;
+                }
+                pendingSpace = true;
+                continue;
+            }
+            if (Character.isWhitespace(c) || c == ',' || c == '\uFEFF') {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (PUNCTUATORS.indexOf(c) >= 0) {
+                out.append(c);
+                pendingSpace = false;
+                i++;
+                continue;
+            }
+            if (pendingSpace && !out.isEmpty() && PUNCTUATORS.indexOf(out.charAt(out.length() - 1)) < 0) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            if (c == '"') {
+                int end = stringEnd(query, i);
+                out.append(query, i, end);
+                i = end;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    static boolean readOnly(String normalizedQuery) {
+        int depth = 0;
+        int i = 0;
+        while (i < normalizedQuery.length()) {
+            char c = normalizedQuery.charAt(i);
+            if (c == '"') {
+                i = stringEnd(normalizedQuery, i);
+                continue;
+            }
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (depth == 0 && isNameChar(c)) {
+                int end = i;
+                while (end < normalizedQuery.length() && isNameChar(normalizedQuery.charAt(end))) {
+                    end++;
+                }
+                String word = normalizedQuery.substring(i, end);
+                if (word.equals("mutation") || word.equals("subscription")) {
+                    return false;
+                }
+                i = end;
+                continue;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    private static boolean isNameChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static int stringEnd(String query, int start) {
+        if (query.startsWith("\"\"\"", start)) {
+            int i = start + 3;
+            while (i < query.length()) {
+                if (query.startsWith("\\\"\"\"", i)) {
+                    i += 4;
+                } else if (query.startsWith("\"\"\"", i)) {
+                    return i + 3;
+                } else {
+                    i++;
+                }
+            }
+            return query.length();
+        }
+        int i = start + 1;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return query.length();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
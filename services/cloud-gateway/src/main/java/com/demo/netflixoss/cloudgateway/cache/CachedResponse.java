@@ -0,0 +1,11 @@
+package com.demo.netflixoss.cloudgateway.cache;
+
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+
+public record CachedResponse(MediaType contentType, byte[] body, long storedAtMillis, Duration ttl) {
+    public long ageSeconds(long nowMillis) {
+        return Math.max(0, (nowMillis - storedAtMillis) / 1000);
+    }
+}
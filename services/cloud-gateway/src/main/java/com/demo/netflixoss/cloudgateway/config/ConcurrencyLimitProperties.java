@@ -0,0 +1,27 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import com.demo.netflixoss.cloudgateway.limit.Lane;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("500") int maxLimit,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("30s") Duration rttWindow,
+        @DefaultValue("1.0") double clientShare,
+        @DefaultValue("X-Client-Id") String clientHeader,
+        @DefaultValue Map<Lane, Double> laneShares
+) {
+    public double laneShare(Lane lane) {
+        return laneShares.getOrDefault(lane, 1.0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import com.demo.netflixoss.cloudgateway.discovery.RegistryPushLoadBalancerConfiguration;
+import com.demo.netflixoss.cloudgateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PeakEwmaProperties.class)
+@LoadBalancerClients(defaultConfiguration = {
+        PeakEwmaLoadBalancerConfiguration.class,
+        RegistryPushLoadBalancerConfiguration.class
+})
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,14 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.load-balancer.peak-ewma")
+public record PeakEwmaProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10s") Duration decayTime,
+        @DefaultValue("1s") Duration failurePenalty
+) {
+}
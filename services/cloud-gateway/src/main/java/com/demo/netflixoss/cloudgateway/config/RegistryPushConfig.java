@@ -0,0 +1,46 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import com.demo.netflixoss.cloudgateway.discovery.RegistryInstanceCache;
+import com.demo.netflixoss.cloudgateway.discovery.RegistryStreamSubscriber;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@EnableConfigurationProperties(RegistryPushProperties.class)
+@ConditionalOnProperty(prefix = "gateway.discovery.push", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RegistryPushConfig {
+    @Bean
+    public RegistryInstanceCache registryInstanceCache(MeterRegistry meterRegistry) {
+        return new RegistryInstanceCache(meterRegistry);
+    }
+
+    @Bean
+    public RegistryStreamSubscriber registryStreamSubscriber(
+            WebClient.Builder webClientBuilder,
+            RegistryInstanceCache registryInstanceCache,
+            RegistryPushProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${eureka.client.service-url.defaultZone:http://localhost:8761/eureka}") String defaultZone
+    ) {
+        return new RegistryStreamSubscriber(
+                webClientBuilder,
+                properties.streamUrl().isBlank() ? streamUrl(defaultZone) : properties.streamUrl(),
+                registryInstanceCache,
+                properties,
+                meterRegistry
+        );
+    }
+
+    private static String streamUrl(String defaultZone) {
+        String zone = defaultZone.split(",")[0].trim().replaceAll("/+$", "");
+        if (zone.endsWith("/eureka")) {
+            zone = zone.substring(0, zone.length() - "/eureka".length());
+        }
+        return zone + "/registry/stream";
+    }
+}
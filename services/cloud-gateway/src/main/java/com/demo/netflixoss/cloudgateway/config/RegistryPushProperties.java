@@ -0,0 +1,16 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.discovery.push")
+public record RegistryPushProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("") String streamUrl,
+        @DefaultValue("45s") Duration idleTimeout,
+        @DefaultValue("1s") Duration reconnectDelay,
+        @DefaultValue("30s") Duration maxReconnectDelay
+) {
+}
@@ -0,0 +1,16 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import com.demo.netflixoss.cloudgateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+    @Bean
+    public ResponseCacheStore responseCacheStore(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        return new ResponseCacheStore(properties.maximumSize(), meterRegistry);
+    }
+}
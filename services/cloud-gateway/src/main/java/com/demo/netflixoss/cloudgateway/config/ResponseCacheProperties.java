@@ -0,0 +1,19 @@
+package com.demo.netflixoss.cloudgateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration maxTtl,
+        @DefaultValue("64KB") DataSize maxBodySize,
+        @DefaultValue("16KB") DataSize maxRequestBodySize,
+        @DefaultValue({"/api/rest/echo", "/graphql"}) Set<String> paths
+) {
+}
@@ -0,0 +1,33 @@
+package com.demo.netflixoss.cloudgateway.discovery;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Map;
+
+public record RegistryInstance(
+        String serviceId,
+        String instanceId,
+        String host,
+        int port,
+        boolean secure,
+        String status,
+        Map<String, String> metadata
+) {
+    static final String UP = "UP";
+
+    boolean up() {
+        return UP.equals(status);
+    }
+
+    ServiceInstance toServiceInstance() {
+        return new DefaultServiceInstance(
+                instanceId,
+                serviceId,
+                host,
+                port,
+                secure,
+                metadata == null ? Map.of() : metadata
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.demo.netflixoss.cloudgateway.discovery;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RegistryInstanceCache {
+    private final ConcurrentHashMap<String, Service> services = new ConcurrentHashMap<>();
+    private volatile boolean synced;
+
+    public RegistryInstanceCache(MeterRegistry meterRegistry) {
+        Gauge.builder("gateway.discovery.push.synced", this, cache -> cache.synced ? 1 : 0).register(meterRegistry);
+        Gauge.builder("gateway.discovery.push.instances", services, RegistryInstanceCache::count).register(meterRegistry);
+    }
+
+    public boolean synced() {
+        return synced;
+    }
+
+    public List<ServiceInstance> instances(String serviceId) {
+        Service service = services.get(serviceId.toLowerCase(Locale.ROOT));
+        return service == null ? List.of() : service.instances();
+    }
+
+    void replace(List<RegistryInstance> instances) {
+        Map<String, Map<String, ServiceInstance>> grouped = new HashMap<>();
+        for (RegistryInstance instance : instances) {
+            if (instance.up()) {
+                grouped.computeIfAbsent(instance.serviceId(), ignored -> new LinkedHashMap<>())
+                        .put(instance.instanceId(), instance.toServiceInstance());
+            }
+        }
+        services.keySet().retainAll(grouped.keySet());
+        grouped.forEach((serviceId, byId) -> services.put(serviceId, Service.of(byId)));
+        synced = true;
+    }
+
+    void register(RegistryInstance instance) {
+        if (!instance.up()) {
+            cancel(instance);
+            return;
+        }
+        services.compute(instance.serviceId(), (serviceId, service) -> {
+            Map<String, ServiceInstance> byId = service == null ? new LinkedHashMap<>() : new LinkedHashMap<>(service.byId());
+            byId.put(instance.instanceId(), instance.toServiceInstance());
+            return Service.of(byId);
+        });
+    }
+
+    void cancel(RegistryInstance instance) {
+        services.computeIfPresent(instance.serviceId(), (serviceId, service) -> {
+            if (!service.byId().containsKey(instance.instanceId())) {
+                return service;
+            }
+            Map<String, ServiceInstance> byId = new LinkedHashMap<>(service.byId());
+            byId.remove(instance.instanceId());
+            return byId.isEmpty() ? null : Service.of(byId);
+        });
+    }
+
+    void disconnected() {
+        synced = false;
+    }
+
+    private static double count(Map<String, Service> services) {
+        return services.values().stream().mapToInt(service -> service.instances().size()).sum();
+    }
+
+    private record Service(Map<String, ServiceInstance> byId, List<ServiceInstance> instances) {
+        static Service of(Map<String, ServiceInstance> byId) {
+            return new Service(byId, List.copyOf(byId.values()));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.demo.netflixoss.cloudgateway.discovery;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+@ConditionalOnProperty(prefix = "gateway.discovery.push", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RegistryPushLoadBalancerConfiguration {
+    @Bean
+    public ServiceInstanceListSupplier registryPushServiceInstanceListSupplier(
+            ConfigurableApplicationContext context,
+            RegistryInstanceCache registryInstanceCache
+    ) {
+        return new RegistryPushServiceInstanceListSupplier(
+                ServiceInstanceListSupplier.builder().withDiscoveryClient().withCaching().build(context),
+                registryInstanceCache
+        );
+    }
+}
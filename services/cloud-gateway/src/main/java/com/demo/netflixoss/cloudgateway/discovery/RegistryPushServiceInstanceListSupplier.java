@@ -0,0 +1,27 @@
+package com.demo.netflixoss.cloudgateway.discovery;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public class RegistryPushServiceInstanceListSupplier implements ServiceInstanceListSupplier {
+    private final ServiceInstanceListSupplier delegate;
+    private final RegistryInstanceCache cache;
+
+    public RegistryPushServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, RegistryInstanceCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getServiceId() {
+        return delegate.getServiceId();
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return Flux.defer(() -> cache.synced() ? Flux.just(cache.instances(getServiceId())) : delegate.get());
+    }
+}
@@ -0,0 +1,101 @@
+package com.demo.netflixoss.cloudgateway.discovery;
+
+import com.demo.netflixoss.cloudgateway.config.RegistryPushProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RegistryStreamSubscriber implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(RegistryStreamSubscriber.class);
+    private static final ParameterizedTypeReference<ServerSentEvent<List<RegistryInstance>>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final String streamUrl;
+    private final RegistryInstanceCache cache;
+    private final RegistryPushProperties properties;
+    private final MeterRegistry meterRegistry;
+    private volatile Disposable subscription;
+
+    public RegistryStreamSubscriber(
+            WebClient.Builder webClientBuilder,
+            String streamUrl,
+            RegistryInstanceCache cache,
+            RegistryPushProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClientBuilder.build();
+        this.streamUrl = streamUrl;
+        this.cache = cache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        subscription = Flux.defer(this::events)
+                .timeout(properties.idleTimeout())
+                .doOnNext(this::apply)
+                .doOnTerminate(cache::disconnected)
+                .doOnError(error -> log.debug("Registry stream {} disconnected: {}", streamUrl, error.toString()))
+                .repeatWhen(completed -> completed.delayElements(properties.reconnectDelay()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.reconnectDelay())
+                        .maxBackoff(properties.maxReconnectDelay())
+                        .transientErrors(true))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        cache.disconnected();
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+
+    private Flux<ServerSentEvent<List<RegistryInstance>>> events() {
+        return webClient.get()
+                .uri(streamUrl)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE);
+    }
+
+    private void apply(ServerSentEvent<List<RegistryInstance>> event) {
+        if (event.event() == null || event.data() == null) {
+            return;
+        }
+        switch (event.event()) {
+            case "snapshot" -> {
+                cache.replace(event.data());
+                log.info("Registry stream {} synced with {} instances", streamUrl, event.data().size());
+            }
+            case "registered" -> event.data().forEach(cache::register);
+            case "canceled" -> event.data().forEach(cache::cancel);
+            default -> {
+                return;
+            }
+        }
+        Counter.builder("gateway.discovery.push.events").tag("type", event.event()).register(meterRegistry).increment();
+    }
+}
@@ -0,0 +1,85 @@
+package com.demo.netflixoss.cloudgateway.filter;
+
+import com.demo.netflixoss.cloudgateway.config.ConcurrencyLimitProperties;
+import com.demo.netflixoss.cloudgateway.limit.ConcurrencyLimiter;
+import com.demo.netflixoss.cloudgateway.limit.Lane;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class AdaptiveConcurrencyLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimitGatewayFilterFactory(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            if (!properties.enabled()) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route == null ? "default" : route.getId();
+            ConcurrencyLimiter limiter = limiters.computeIfAbsent(
+                    routeId,
+                    id -> new ConcurrencyLimiter(id, properties, meterRegistry)
+            );
+            Lane lane = Lane.of(exchange.getRequest().getPath().value());
+            String client = properties.clientShare() < 1.0 ? clientKey(exchange) : null;
+            ConcurrencyLimiter.Permit permit = limiter.tryAcquire(lane, client);
+            if (permit == null) {
+                return shed(exchange);
+            }
+
+            return chain.filter(exchange).doFinally(signal -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (signal == SignalType.CANCEL) {
+                    permit.onIgnore();
+                } else if (signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError())) {
+                    permit.onDropped();
+                } else {
+                    permit.onSuccess();
+                }
+            });
+        };
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(properties.clientHeader());
+        if (header != null && !header.isBlank()) {
+            return header;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return remoteAddress == null ? "unknown" : remoteAddress.getHostString();
+    }
+
+    private static Mono<Void> shed(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        return exchange.getRequest().getBody()
+                .doOnNext(DataBufferUtils::release)
+                .then(response.setComplete());
+    }
+}
@@ -0,0 +1,50 @@
+package com.demo.netflixoss.cloudgateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class RequestBudgetGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+    public static final String HEADER = "X-Request-Budget";
+
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+
+    public RequestBudgetGatewayFilterFactory(
+            @Value("${gateway.request-budget.default:10s}") Duration defaultBudget,
+            @Value("${gateway.request-budget.max:30s}") Duration maxBudget
+    ) {
+        this.defaultBudget = defaultBudget;
+        this.maxBudget = maxBudget;
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            String budget = Long.toString(budget(exchange.getRequest().getHeaders().getFirst(HEADER)).toMillis());
+            return chain.filter(exchange.mutate()
+                    .request(request -> request.headers(headers -> headers.set(HEADER, budget)))
+                    .build());
+        };
+    }
+
+    private Duration budget(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultBudget;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            if (millis <= 0) {
+                return defaultBudget;
+            }
+            Duration budget = Duration.ofMillis(millis);
+            return budget.compareTo(maxBudget) > 0 ? maxBudget : budget;
+        } catch (NumberFormatException e) {
+            return defaultBudget;
+        }
+    }
+}
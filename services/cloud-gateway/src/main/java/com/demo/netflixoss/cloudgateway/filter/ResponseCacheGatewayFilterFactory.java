@@ -0,0 +1,202 @@
+package com.demo.netflixoss.cloudgateway.filter;
+
+import com.demo.netflixoss.cloudgateway.cache.CacheKeys;
+import com.demo.netflixoss.cloudgateway.cache.CachedResponse;
+import com.demo.netflixoss.cloudgateway.cache.ResponseCacheStore;
+import com.demo.netflixoss.cloudgateway.config.ResponseCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+    private static final String X_CACHE = "X-Cache";
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCacheStore store;
+    private final CacheKeys cacheKeys;
+
+    public ResponseCacheGatewayFilterFactory(
+            ResponseCacheProperties properties,
+            ResponseCacheStore store,
+            ObjectMapper objectMapper
+    ) {
+        this.properties = properties;
+        this.store = store;
+        this.cacheKeys = new CacheKeys(objectMapper);
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String path = request.getPath().value();
+            if (!properties.enabled() || request.getMethod() != HttpMethod.POST || !properties.paths().contains(path)) {
+                return chain.filter(exchange);
+            }
+            Directives directives = Directives.parse(request.getHeaders().getCacheControl());
+            if (directives.noStore() || directives.maxAge() <= 0) {
+                return chain.filter(exchange);
+            }
+            long contentLength = request.getHeaders().getContentLength();
+            int maxRequestBytes = (int) properties.maxRequestBodySize().toBytes();
+            if (contentLength < 0 || contentLength > maxRequestBytes) {
+                return chain.filter(exchange);
+            }
+
+            Duration ttl = Duration.ofSeconds(directives.maxAge());
+            if (ttl.compareTo(properties.maxTtl()) > 0) {
+                ttl = properties.maxTtl();
+            }
+            Duration entryTtl = ttl;
+            return DataBufferUtils.join(request.getBody(), maxRequestBytes)
+                    .map(ResponseCacheGatewayFilterFactory::drain)
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(body -> {
+                        ServerHttpRequest replayed = new ServerHttpRequestDecorator(request) {
+                            @Override
+                            public Flux<DataBuffer> getBody() {
+                                return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+                            }
+                        };
+                        String key = cacheKeys.key(
+                                request.getMethod().name(),
+                                request.getURI().getRawQuery() == null ? path : path + "?" + request.getURI().getRawQuery(),
+                                request.getHeaders().getFirst(HttpHeaders.ACCEPT),
+                                body,
+                                GRAPHQL_PATH.equals(path)
+                        );
+                        if (key == null) {
+                            return chain.filter(exchange.mutate().request(replayed).build());
+                        }
+                        if (!directives.noCache()) {
+                            CachedResponse cached = store.get(key);
+                            if (cached != null) {
+                                return writeCached(exchange.getResponse(), cached);
+                            }
+                        }
+                        exchange.getResponse().getHeaders().set(X_CACHE, "MISS");
+                        return chain.filter(exchange.mutate()
+                                .request(replayed)
+                                .response(new CachingResponse(exchange.getResponse(), key, entryTtl))
+                                .build());
+                    });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private static Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached) {
+        response.setStatusCode(HttpStatus.OK);
+        HttpHeaders headers = response.getHeaders();
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds(System.currentTimeMillis())));
+        headers.set(X_CACHE, "HIT");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static byte[] drain(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private record Directives(boolean noStore, boolean noCache, long maxAge) {
+        static Directives parse(String cacheControl) {
+            if (cacheControl == null || cacheControl.isBlank()) {
+                return new Directives(false, false, 0);
+            }
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = 0;
+            for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+                String value = directive.trim();
+                if (value.equals("no-store")) {
+                    noStore = true;
+                } else if (value.equals("no-cache")) {
+                    noCache = true;
+                } else if (value.startsWith("max-age=")) {
+                    try {
+                        maxAge = Long.parseLong(value.substring("max-age=".length()).trim());
+                    } catch (NumberFormatException ignored) {
+                        maxAge = 0;
+                    }
+                }
+            }
+            return new Directives(noStore, noCache, maxAge);
+        }
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        private final String key;
+        private final Duration ttl;
+
+        CachingResponse(ServerHttpResponse delegate, String key, Duration ttl) {
+            super(delegate);
+            this.key = key;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long maxBytes = properties.maxBodySize().toBytes();
+            if (!storable() || getHeaders().getContentLength() > maxBytes) {
+                return super.writeWith(body);
+            }
+            AtomicLong size = new AtomicLong();
+            return Flux.from(body)
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxBytes)
+                    .switchOnFirst((first, chunks) -> {
+                        Flux<DataBuffer> buffers = chunks.concatMapIterable(Function.identity());
+                        if (size.get() > maxBytes) {
+                            return super.writeWith(buffers);
+                        }
+                        return DataBufferUtils.join(buffers)
+                                .map(ResponseCacheGatewayFilterFactory::drain)
+                                .defaultIfEmpty(new byte[0])
+                                .flatMap(bytes -> {
+                                    if (!cacheKeys.carriesErrors(bytes)) {
+                                        store.put(key, new CachedResponse(getHeaders().getContentType(), bytes, System.currentTimeMillis(), ttl));
+                                    }
+                                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                                });
+                    })
+                    .then();
+        }
+
+        private boolean storable() {
+            if (!HttpStatus.OK.equals(getStatusCode())) {
+                return false;
+            }
+            String cacheControl = getHeaders().getCacheControl();
+            if (cacheControl == null) {
+                return true;
+            }
+            String directives = cacheControl.toLowerCase(Locale.ROOT);
+            return !directives.contains("no-store") && !directives.contains("private");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.demo.netflixoss.cloudgateway.limit;
+
+import com.demo.netflixoss.cloudgateway.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimiter {
+    private final String routeId;
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentHashMap<String, Integer> clientsInFlight = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiter(String routeId, ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.routeId = routeId;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.limit = new GradientLimit(properties);
+        Gauge.builder("gateway.concurrency.limit", limit, GradientLimit::limit)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", inFlight, AtomicInteger::get)
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    public Permit tryAcquire(Lane lane, String client) {
+        int current = limit.limit();
+        int laneLimit = Math.max(1, (int) (current * properties.laneShare(lane)));
+        int observed;
+        do {
+            observed = inFlight.get();
+            if (observed >= laneLimit) {
+                reject(lane, "limit");
+                return null;
+            }
+        } while (!inFlight.compareAndSet(observed, observed + 1));
+
+        if (client != null && properties.clientShare() < 1.0) {
+            int clientLimit = Math.max(1, (int) (current * properties.clientShare()));
+            if (clientsInFlight.merge(client, 1, Integer::sum) > clientLimit) {
+                releaseClient(client);
+                inFlight.decrementAndGet();
+                reject(lane, "client");
+                return null;
+            }
+            return new Permit(client, observed + 1);
+        }
+        return new Permit(null, observed + 1);
+    }
+
+    private void reject(Lane lane, String reason) {
+        meterRegistry.counter("gateway.concurrency.rejected", "route", routeId, "lane", lane.tag(), "reason", reason)
+                .increment();
+    }
+
+    private void releaseClient(String client) {
+        clientsInFlight.computeIfPresent(client, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    public final class Permit {
+        private final String client;
+        private final int inFlightAtStart;
+        private final long startNanos = System.nanoTime();
+
+        private Permit(String client, int inFlightAtStart) {
+            this.client = client;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void onSuccess() {
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, false);
+            release();
+        }
+
+        public void onDropped() {
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, true);
+            release();
+        }
+
+        public void onIgnore() {
+            release();
+        }
+
+        private void release() {
+            if (client != null) {
+                releaseClient(client);
+            }
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.demo.netflixoss.cloudgateway.limit;
+
+import com.demo.netflixoss.cloudgateway.config.ConcurrencyLimitProperties;
+
+public class GradientLimit {
+    private static final double SHORT_WINDOW = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final long rttWindowNanos;
+
+    private volatile double limit;
+    private double shortRtt;
+    private long currentMinRtt = Long.MAX_VALUE;
+    private long previousMinRtt = Long.MAX_VALUE;
+    private long windowStart = System.nanoTime();
+
+    public GradientLimit(ConcurrencyLimitProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.rttTolerance = properties.rttTolerance();
+        this.smoothing = properties.smoothing();
+        this.backoffRatio = properties.backoffRatio();
+        this.rttWindowNanos = properties.rttWindow().toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.initialLimit()));
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            return;
+        }
+
+        shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) / SHORT_WINDOW;
+        long now = System.nanoTime();
+        if (now - windowStart > rttWindowNanos) {
+            previousMinRtt = currentMinRtt;
+            currentMinRtt = (long) shortRtt;
+            windowStart = now;
+        } else {
+            currentMinRtt = Math.min(currentMinRtt, (long) shortRtt);
+        }
+        if (inFlight < limit / 2) {
+            return;
+        }
+
+        double noLoadRtt = Math.min(currentMinRtt, previousMinRtt);
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * noLoadRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        double next = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,23 @@
+package com.demo.netflixoss.cloudgateway.limit;
+
+import java.util.Locale;
+
+public enum Lane {
+    REST,
+    SOAP,
+    GRAPHQL;
+
+    public static Lane of(String path) {
+        if (path.startsWith("/ws")) {
+            return SOAP;
+        }
+        if (path.startsWith("/graphql")) {
+            return GRAPHQL;
+        }
+        return REST;
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.netflixoss.cloudgateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InstanceSelection extends DefaultResponse {
+    private static final int CHOSEN = 0;
+    private static final int STARTED = 1;
+    private static final int FINISHED = 2;
+
+    private final InstanceStats stats;
+    private final AtomicInteger state = new AtomicInteger(CHOSEN);
+
+    InstanceSelection(ServiceInstance instance, InstanceStats stats) {
+        super(instance);
+        this.stats = stats;
+    }
+
+    void start() {
+        if (state.compareAndSet(CHOSEN, STARTED)) {
+            stats.start();
+        }
+    }
+
+    void complete(long rttNanos) {
+        if (state.compareAndSet(STARTED, FINISHED)) {
+            stats.complete(rttNanos);
+        }
+    }
+
+    public void release() {
+        if (state.compareAndSet(STARTED, FINISHED)) {
+            stats.cancel();
+        }
+    }
+}
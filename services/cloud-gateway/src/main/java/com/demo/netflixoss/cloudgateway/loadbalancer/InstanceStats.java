@@ -0,0 +1,54 @@
+package com.demo.netflixoss.cloudgateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class InstanceStats {
+    private final long decayNanos;
+    private final long penaltyNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastUpdate = System.nanoTime();
+
+    InstanceStats(long decayNanos, long penaltyNanos) {
+        this.decayNanos = decayNanos;
+        this.penaltyNanos = penaltyNanos;
+    }
+
+    void start() {
+        outstanding.incrementAndGet();
+    }
+
+    synchronized void complete(long rttNanos) {
+        outstanding.decrementAndGet();
+        long now = System.nanoTime();
+        if (rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+        } else {
+            double weight = Math.exp(-(double) (now - lastUpdate) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        lastUpdate = now;
+    }
+
+    void cancel() {
+        outstanding.decrementAndGet();
+    }
+
+    synchronized double cost() {
+        int pending = outstanding.get();
+        if (ewmaNanos == 0 && pending > 0) {
+            return (double) penaltyNanos * (pending + 1);
+        }
+        double weight = Math.exp(-(double) (System.nanoTime() - lastUpdate) / decayNanos);
+        return ewmaNanos * weight * (pending + 1);
+    }
+
+    synchronized double latencyMillis() {
+        return ewmaNanos / 1_000_000.0;
+    }
+
+    int outstanding() {
+        return outstanding.get();
+    }
+}
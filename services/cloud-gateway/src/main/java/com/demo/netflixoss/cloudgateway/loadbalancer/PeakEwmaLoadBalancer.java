@@ -0,0 +1,198 @@
+package com.demo.netflixoss.cloudgateway.loadbalancer;
+
+import com.demo.netflixoss.cloudgateway.config.PeakEwmaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Tracked> stats = new ConcurrentHashMap<>();
+
+    public PeakEwmaLoadBalancer(
+            ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+            String serviceId,
+            PeakEwmaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.decayNanos = properties.decayTime().toNanos();
+        this.failurePenaltyNanos = properties.failurePenalty().toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = select(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        prune(instances);
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new InstanceSelection(instances.get(0), stats(instances.get(0)));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        InstanceStats statsA = stats(a);
+        InstanceStats statsB = stats(b);
+        return statsA.cost() <= statsB.cost() ? new InstanceSelection(a, statsA) : new InstanceSelection(b, statsB);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse instanceof InstanceSelection selection) {
+            selection.start();
+        }
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (!(completionContext.getLoadBalancerResponse() instanceof InstanceSelection selection)) {
+            return;
+        }
+        Object context = completionContext.getLoadBalancerRequest().getContext();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || !(context instanceof TimedRequestContext timed)
+                || timed.getRequestStartTime() == 0) {
+            selection.release();
+            return;
+        }
+
+        long rttNanos = System.nanoTime() - timed.getRequestStartTime();
+        if (failed(completionContext)) {
+            rttNanos = Math.max(rttNanos, failurePenaltyNanos);
+        }
+        selection.complete(rttNanos);
+    }
+
+    private static boolean failed(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        return completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null
+                && response.getHttpStatus().is5xxServerError();
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        String key = key(instance);
+        Tracked existing = stats.get(key);
+        if (existing != null) {
+            return existing.stats();
+        }
+        return stats.computeIfAbsent(key, this::register).stats();
+    }
+
+    private void prune(List<ServiceInstance> instances) {
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            current.add(key(instance));
+        }
+        long now = System.nanoTime();
+        stats.forEach((key, tracked) -> {
+            if (current.contains(key)) {
+                tracked.present();
+            } else if (tracked.absentLongerThan(decayNanos, now) && stats.remove(key, tracked)) {
+                tracked.meters().forEach(meterRegistry::remove);
+            }
+        });
+    }
+
+    private Tracked register(String instance) {
+        InstanceStats instanceStats = new InstanceStats(decayNanos, failurePenaltyNanos);
+        Gauge latency = Gauge.builder("gateway.loadbalancer.latency", instanceStats, InstanceStats::latencyMillis)
+                .tags("service", serviceId, "instance", instance)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge outstanding = Gauge.builder("gateway.loadbalancer.outstanding", instanceStats, InstanceStats::outstanding)
+                .tags("service", serviceId, "instance", instance)
+                .register(meterRegistry);
+        return new Tracked(instanceStats, List.of(latency, outstanding));
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class Tracked {
+        private final InstanceStats stats;
+        private final List<Meter> meters;
+        private volatile long absentSince;
+
+        Tracked(InstanceStats stats, List<Meter> meters) {
+            this.stats = stats;
+            this.meters = meters;
+        }
+
+        InstanceStats stats() {
+            return stats;
+        }
+
+        List<Meter> meters() {
+            return meters;
+        }
+
+        void present() {
+            absentSince = 0;
+        }
+
+        boolean absentLongerThan(long nanos, long now) {
+            if (absentSince == 0) {
+                absentSince = now;
+                return false;
+            }
+            return now - absentSince > nanos;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.demo.netflixoss.cloudgateway.loadbalancer;
+
+import com.demo.netflixoss.cloudgateway.config.PeakEwmaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+@ConditionalOnProperty(prefix = "gateway.load-balancer.peak-ewma", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PeakEwmaLoadBalancerConfiguration {
+    @Bean
+    public PeakEwmaLoadBalancer peakEwmaLoadBalancer(
+            Environment environment,
+            ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+            PeakEwmaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new PeakEwmaLoadBalancer(
+                serviceInstanceListSupplierProvider,
+                environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME),
+                properties,
+                meterRegistry
+        );
+    }
+}
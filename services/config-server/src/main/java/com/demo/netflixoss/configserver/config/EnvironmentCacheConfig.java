@@ -0,0 +1,66 @@
+package com.demo.netflixoss.configserver.config;
+
+import com.demo.netflixoss.configserver.environment.CachingEnvironmentRepository;
+import com.demo.netflixoss.configserver.environment.ConfigRepoWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.config.server.config.ConfigServerProperties;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(EnvironmentCacheProperties.class)
+public class EnvironmentCacheConfig {
+    @Bean
+    @Primary
+    @Profile("native")
+    @ConditionalOnProperty(prefix = "config.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CachingEnvironmentRepository cachingEnvironmentRepository(
+            NativeEnvironmentRepository nativeEnvironmentRepository,
+            ConfigServerProperties serverProperties,
+            ObjectProvider<ObservationRegistry> observationRegistry,
+            EnvironmentCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new CachingEnvironmentRepository(
+                new ArrayList<>(List.of(nativeEnvironmentRepository)),
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                serverProperties.isFailOnCompositeError(),
+                properties.maximumSize(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @Profile("native")
+    @ConditionalOnProperty(prefix = "config.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ConfigRepoWatcher configRepoWatcher(
+            CachingEnvironmentRepository cachingEnvironmentRepository,
+            NativeEnvironmentRepository nativeEnvironmentRepository,
+            EnvironmentCacheProperties properties
+    ) {
+        return new ConfigRepoWatcher(
+                cachingEnvironmentRepository,
+                List.of(nativeEnvironmentRepository.getSearchLocations()),
+                properties.warmUp(),
+                properties.watchDebounce()
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "config.cache", name = "etag", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        return new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+    }
+}
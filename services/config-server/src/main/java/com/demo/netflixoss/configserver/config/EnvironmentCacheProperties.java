@@ -0,0 +1,16 @@
+package com.demo.netflixoss.configserver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "config.cache")
+public record EnvironmentCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean warmUp,
+        @DefaultValue("1000") long maximumSize,
+        @DefaultValue("250ms") Duration watchDebounce,
+        @DefaultValue("true") boolean etag
+) {
+}
@@ -0,0 +1,68 @@
+package com.demo.netflixoss.configserver.environment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathCompositeEnvironmentRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CachingEnvironmentRepository extends SearchPathCompositeEnvironmentRepository {
+    private final Cache<Key, Environment> environments;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public CachingEnvironmentRepository(
+            List<EnvironmentRepository> repositories,
+            ObservationRegistry observationRegistry,
+            boolean failOnError,
+            long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        super(repositories, observationRegistry, failOnError);
+        this.environments = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.hits = Counter.builder("config.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("config.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.invalidations = Counter.builder("config.cache.invalidations").register(meterRegistry);
+        Gauge.builder("config.cache.size", environments, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+        Key key = new Key(application, profile, label, includeOrigin);
+        AtomicBoolean resolved = new AtomicBoolean();
+        Environment environment = environments.get(key, missing -> {
+            resolved.set(true);
+            return resolve(missing);
+        });
+        (resolved.get() ? misses : hits).increment();
+        return copy(environment);
+    }
+
+    public long invalidate() {
+        long size = environments.estimatedSize();
+        environments.invalidateAll();
+        invalidations.increment();
+        return size;
+    }
+
+    private Environment resolve(Key key) {
+        return super.findOne(key.application(), key.profile(), key.label(), key.includeOrigin());
+    }
+
+    private static Environment copy(Environment environment) {
+        Environment copy = new Environment(environment);
+        copy.addAll(environment.getPropertySources());
+        return copy;
+    }
+
+    private record Key(String application, String profile, String label, boolean includeOrigin) {
+    }
+}
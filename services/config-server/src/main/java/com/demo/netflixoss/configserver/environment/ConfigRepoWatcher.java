@@ -0,0 +1,170 @@
+package com.demo.netflixoss.configserver.environment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class ConfigRepoWatcher implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ConfigRepoWatcher.class);
+    private static final Pattern PROFILE_FILE = Pattern.compile("(.+)-([^-]+)\\.(yml|yaml|properties)");
+
+    private final CachingEnvironmentRepository repository;
+    private final List<Path> directories;
+    private final boolean warmUp;
+    private final Duration debounce;
+    private volatile WatchService watchService;
+    private volatile Thread thread;
+
+    public ConfigRepoWatcher(
+            CachingEnvironmentRepository repository,
+            List<String> searchLocations,
+            boolean warmUp,
+            Duration debounce
+    ) {
+        this.repository = repository;
+        this.directories = directories(searchLocations);
+        this.warmUp = warmUp;
+        this.debounce = debounce;
+    }
+
+    @Override
+    public void start() {
+        try {
+            watchService = directories.isEmpty() ? null : directories.get(0).getFileSystem().newWatchService();
+            for (Path directory : directories) {
+                directory.register(
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                );
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not watch config repo " + directories, e);
+        }
+        if (directories.isEmpty()) {
+            log.warn("No file search locations to watch, cached environments are only dropped on restart");
+        }
+        thread = new Thread(this::run, "config-repo-watch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = thread;
+        thread = null;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Could not close config repo watch service", e);
+            }
+        }
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        warmUp();
+        if (watchService == null) {
+            return;
+        }
+        try {
+            while (thread != null) {
+                Set<String> changed = new TreeSet<>();
+                WatchKey key = watchService.take();
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed.add(String.valueOf(event.context()));
+                    }
+                    key.reset();
+                    key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                log.info("Config repo changed {}, dropped {} cached environments", changed, repository.invalidate());
+                warmUp();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        long started = System.nanoTime();
+        Set<ProfileFile> environments = profileFiles();
+        for (ProfileFile environment : environments) {
+            try {
+                repository.findOne(environment.application(), environment.profile(), null, true);
+            } catch (RuntimeException e) {
+                log.warn("Could not resolve {}/{} ahead of time", environment.application(), environment.profile(), e);
+            }
+        }
+        log.info("Resolved {} environments in {} ms", environments.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private Set<ProfileFile> profileFiles() {
+        Set<ProfileFile> environments = new LinkedHashSet<>();
+        for (Path directory : directories) {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(file -> PROFILE_FILE.matcher(file.getFileName().toString()))
+                        .filter(Matcher::matches)
+                        .filter(matcher -> !matcher.group(1).equals("application"))
+                        .forEach(matcher -> {
+                            environments.add(new ProfileFile(matcher.group(1), "default"));
+                            environments.add(new ProfileFile(matcher.group(1), matcher.group(2)));
+                        });
+            } catch (IOException e) {
+                log.warn("Could not list config repo {}", directory, e);
+            }
+        }
+        return environments;
+    }
+
+    private static List<Path> directories(List<String> searchLocations) {
+        List<Path> directories = new ArrayList<>();
+        for (String location : searchLocations) {
+            if (!location.startsWith("file:") || location.contains("{")) {
+                continue;
+            }
+            Path directory = Path.of(location.substring("file:".length())).toAbsolutePath().normalize();
+            if (Files.isDirectory(directory) && !directories.contains(directory)) {
+                directories.add(directory);
+            }
+        }
+        return directories;
+    }
+
+    private record ProfileFile(String application, String profile) {
+    }
+}
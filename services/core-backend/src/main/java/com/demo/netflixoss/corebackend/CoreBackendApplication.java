@@ -2,8 +2,10 @@ package com.demo.netflixoss.corebackend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CoreBackendApplication {
     public static void main(String[] args) {
         SpringApplication.run(CoreBackendApplication.class, args);
@@ -0,0 +1,29 @@
+package com.demo.netflixoss.corebackend.actuator;
+
+import com.demo.netflixoss.corebackend.model.InstanceInfo;
+import com.demo.netflixoss.corebackend.service.InstanceInfoProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "instanceinfo")
+public class InstanceInfoEndpoint {
+    private final InstanceInfoProvider instanceInfoProvider;
+
+    public InstanceInfoEndpoint(InstanceInfoProvider instanceInfoProvider) {
+        this.instanceInfoProvider = instanceInfoProvider;
+    }
+
+    @ReadOperation
+    public InstanceInfo instanceInfo() {
+        return instanceInfoProvider.current();
+    }
+
+    @WriteOperation
+    public InstanceInfo refresh() {
+        instanceInfoProvider.refresh();
+        return instanceInfoProvider.current();
+    }
+}
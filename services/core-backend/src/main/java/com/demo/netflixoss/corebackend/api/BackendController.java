@@ -1,28 +1,99 @@
 package com.demo.netflixoss.corebackend.api;
 
 import com.demo.netflixoss.corebackend.model.ProcessRequest;
+import com.demo.netflixoss.corebackend.model.ProcessedBatchItem;
 import com.demo.netflixoss.corebackend.model.ProcessedResponse;
+import com.demo.netflixoss.corebackend.service.ProcessingResultCache;
 import com.demo.netflixoss.corebackend.service.ProcessingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 public class BackendController {
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     private final ProcessingService processingService;
+    private final ProcessingResultCache processingResultCache;
+    private final ObjectReader requestReader;
+    private final ObjectWriter responseWriter;
 
-    public BackendController(ProcessingService processingService) {
+    public BackendController(
+            ProcessingService processingService,
+            ProcessingResultCache processingResultCache,
+            ObjectMapper objectMapper
+    ) {
         this.processingService = processingService;
+        this.processingResultCache = processingResultCache;
+        this.requestReader = objectMapper.readerFor(ProcessRequest.class);
+        this.responseWriter = objectMapper.writerFor(ProcessedResponse.class);
     }
 
-    @PostMapping(path = "/backend/process", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(
+            path = "/backend/process",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE}
+    )
     public ProcessedResponse process(
             @RequestBody ProcessRequest request,
             @RequestHeader(value = "X-Client-Subject", required = false) String clientSubject,
+            @RequestHeader(value = "X-Client-Serial", required = false) String clientSerial,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return processingResultCache.process(request, clientSubject, clientSerial, idempotencyKey);
+    }
+
+    @PostMapping(
+            path = "/backend/process/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public List<ProcessedBatchItem> processBatch(
+            @RequestBody List<ProcessRequest> requests,
+            @RequestHeader(value = "X-Client-Subject", required = false) String clientSubject,
+            @RequestHeader(value = "X-Client-Serial", required = false) String clientSerial
+    ) {
+        return processingService.processBatch(requests, clientSubject, clientSerial);
+    }
+
+    @PostMapping(path = "/backend/process/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> processStream(
+            InputStream body,
+            @RequestHeader(value = "X-Client-Subject", required = false) String clientSubject,
             @RequestHeader(value = "X-Client-Serial", required = false) String clientSerial
     ) {
-        return processingService.process(request, clientSubject, clientSerial);
+        StreamingResponseBody responses = out -> {
+            BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            while (true) {
+                if (!lines.ready()) {
+                    out.flush();
+                }
+                String line = lines.readLine();
+                if (line == null) {
+                    break;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                ProcessRequest request = requestReader.readValue(line);
+                out.write(responseWriter.writeValueAsBytes(processingService.process(request, clientSubject, clientSerial)));
+                out.write('\n');
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(responses);
     }
 }
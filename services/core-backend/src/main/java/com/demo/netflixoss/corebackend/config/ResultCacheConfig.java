@@ -0,0 +1,9 @@
+package com.demo.netflixoss.corebackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResultCacheProperties.class)
+public class ResultCacheConfig {
+}
@@ -0,0 +1,15 @@
+package com.demo.netflixoss.corebackend.model;
+
+public record ProcessedBatchItem(
+        int index,
+        ProcessedResponse response,
+        String error
+) {
+    public static ProcessedBatchItem success(int index, ProcessedResponse response) {
+        return new ProcessedBatchItem(index, response, null);
+    }
+
+    public static ProcessedBatchItem failure(int index, String error) {
+        return new ProcessedBatchItem(index, null, error);
+    }
+}
@@ -0,0 +1,88 @@
+package com.demo.netflixoss.corebackend.service;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+public final class ComputedOutputFormatter {
+    private static final String TEMPLATE = "processed(type=%s, message=%s, amount=%.2f, fee=%.2f, total=%.2f)";
+    private static final String TYPE = "processed(type=";
+    private static final String MESSAGE = ", message=";
+    private static final String AMOUNT = ", amount=";
+    private static final String FEE = ", fee=";
+    private static final String TOTAL = ", total=";
+    private static final int FIXED_LENGTH = TYPE.length() + MESSAGE.length() + AMOUNT.length()
+            + FEE.length() + TOTAL.length() + 1;
+    private static final double MAX_FAST_VALUE = 1e9d;
+    private static final double HALF_TOLERANCE = 1e-4d;
+
+    private static volatile LocaleSupport localeSupport = LocaleSupport.of(Locale.getDefault(Locale.Category.FORMAT));
+
+    private ComputedOutputFormatter() {
+    }
+
+    public static String format(String type, String message, double amount) {
+        double fee = amount * 0.05d;
+        double total = amount * 1.05d;
+        long amountCents = cents(amount);
+        long feeCents = cents(fee);
+        long totalCents = cents(total);
+        if (amountCents < 0 || feeCents < 0 || totalCents < 0 || !supportsDefaultLocale()) {
+            return TEMPLATE.formatted(type, message, amount, fee, total);
+        }
+        String typeText = String.valueOf(type);
+        String messageText = String.valueOf(message);
+        StringBuilder sb = new StringBuilder(FIXED_LENGTH + typeText.length() + messageText.length() + 48);
+        sb.append(TYPE).append(typeText)
+                .append(MESSAGE).append(messageText)
+                .append(AMOUNT);
+        appendFixed(sb, amount, amountCents);
+        sb.append(FEE);
+        appendFixed(sb, fee, feeCents);
+        sb.append(TOTAL);
+        appendFixed(sb, total, totalCents);
+        return sb.append(')').toString();
+    }
+
+    private static long cents(double value) {
+        double magnitude = Math.abs(value);
+        if (!(magnitude < MAX_FAST_VALUE)) {
+            return -1;
+        }
+        double scaled = magnitude * 100d;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5d) < HALF_TOLERANCE) {
+            return -1;
+        }
+        return fraction > 0.5d ? (long) floor + 1 : (long) floor;
+    }
+
+    private static void appendFixed(StringBuilder sb, double value, long cents) {
+        if (Double.compare(value, 0.0d) < 0) {
+            sb.append('-');
+        }
+        int fraction = (int) (cents % 100);
+        sb.append(cents / 100).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    private static boolean supportsDefaultLocale() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleSupport current = localeSupport;
+        if (current.locale() != locale) {
+            current = LocaleSupport.of(locale);
+            localeSupport = current;
+        }
+        return current.supported();
+    }
+
+    private record LocaleSupport(Locale locale, boolean supported) {
+        static LocaleSupport of(Locale locale) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            return new LocaleSupport(locale, symbols.getDecimalSeparator() == '.' && symbols.getZeroDigit() == '0');
+        }
+    }
+}
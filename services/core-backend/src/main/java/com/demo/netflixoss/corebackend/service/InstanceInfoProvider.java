@@ -0,0 +1,37 @@
+package com.demo.netflixoss.corebackend.service;
+
+import com.demo.netflixoss.corebackend.model.InstanceInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+
+@Component
+public class InstanceInfoProvider {
+    private final String serviceName;
+    private volatile InstanceInfo current;
+
+    public InstanceInfoProvider(@Value("${spring.application.name:core-backend}") String serviceName) {
+        this.serviceName = serviceName;
+        this.current = resolve();
+    }
+
+    public InstanceInfo current() {
+        return current;
+    }
+
+    @Scheduled(cron = "${backend.instance-info.refresh-cron:-}")
+    public void refresh() {
+        current = resolve();
+    }
+
+    private InstanceInfo resolve() {
+        try {
+            InetAddress local = InetAddress.getLocalHost();
+            return new InstanceInfo(serviceName, local.getHostName(), local.getHostAddress());
+        } catch (Exception e) {
+            return new InstanceInfo(serviceName, "unknown", "unknown");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.demo.netflixoss.corebackend.service;
+
+import com.demo.netflixoss.corebackend.config.ResultCacheProperties;
+import com.demo.netflixoss.corebackend.model.ProcessRequest;
+import com.demo.netflixoss.corebackend.model.ProcessedResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class ProcessingResultCache {
+    private final ProcessingService processingService;
+    private final Cache<Object, ProcessedResponse> cache;
+
+    public ProcessingResultCache(
+            ProcessingService processingService,
+            ResultCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.processingService = processingService;
+        if (properties.enabled()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(properties.maximumSize())
+                    .expireAfterWrite(properties.ttl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "backend.results");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public ProcessedResponse process(
+            ProcessRequest request,
+            String clientSubject,
+            String clientSerial,
+            String idempotencyKey
+    ) {
+        if (cache == null) {
+            return processingService.process(request, clientSubject, clientSerial);
+        }
+        Object key = idempotencyKey == null || idempotencyKey.isBlank()
+                ? new RequestKey(request, clientSubject)
+                : new IdempotencyKey(idempotencyKey, clientSubject);
+        ProcessedResponse response = cache.get(key, k -> processingService.process(request, clientSubject, clientSerial));
+        if (!request.equals(response.original())) {
+            throw new ResponseStatusException(
+                    HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used with a different request"
+            );
+        }
+        return response;
+    }
+
+    private record RequestKey(ProcessRequest request, String clientSubject) {
+    }
+
+    private record IdempotencyKey(String idempotencyKey, String clientSubject) {
+    }
+}
@@ -2,45 +2,61 @@ package com.demo.netflixoss.corebackend.service;
 
 import com.demo.netflixoss.corebackend.model.InstanceInfo;
 import com.demo.netflixoss.corebackend.model.ProcessRequest;
+import com.demo.netflixoss.corebackend.model.ProcessedBatchItem;
 import com.demo.netflixoss.corebackend.model.ProcessedResponse;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.InetAddress;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class ProcessingService {
 
-    @Value("${spring.application.name:core-backend}")
-    private String serviceName;
+    private final InstanceInfoProvider instanceInfoProvider;
+
+    public ProcessingService(InstanceInfoProvider instanceInfoProvider) {
+        this.instanceInfoProvider = instanceInfoProvider;
+    }
 
     public ProcessedResponse process(ProcessRequest request, String clientSubject, String clientSerial) {
-        String computed = "processed(type=%s, message=%s, amount=%.2f, fee=%.2f, total=%.2f)"
-                .formatted(
-                        request.type(),
-                        request.message(),
-                        request.amount(),
-                        request.amount() * 0.05d,
-                        request.amount() * 1.05d
-                );
+        return process(request, Instant.now(), instanceInfoProvider.current(), clientSubject, clientSerial);
+    }
+
+    public List<ProcessedBatchItem> processBatch(List<ProcessRequest> requests, String clientSubject, String clientSerial) {
+        Instant timestamp = Instant.now();
+        InstanceInfo instance = instanceInfoProvider.current();
+        List<ProcessedBatchItem> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ProcessRequest request = requests.get(i);
+            if (request == null) {
+                results.add(ProcessedBatchItem.failure(i, "request must not be null"));
+                continue;
+            }
+            try {
+                results.add(ProcessedBatchItem.success(i, process(request, timestamp, instance, clientSubject, clientSerial)));
+            } catch (RuntimeException e) {
+                results.add(ProcessedBatchItem.failure(i, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private ProcessedResponse process(
+            ProcessRequest request,
+            Instant timestamp,
+            InstanceInfo instance,
+            String clientSubject,
+            String clientSerial
+    ) {
+        String computed = ComputedOutputFormatter.format(request.type(), request.message(), request.amount());
         return new ProcessedResponse(
                 request,
                 computed,
-                Instant.now(),
-                instanceInfo(),
+                timestamp,
+                instance,
                 clientSubject,
                 clientSerial
         );
     }
-
-    private InstanceInfo instanceInfo() {
-        try {
-            InetAddress local = InetAddress.getLocalHost();
-            return new InstanceInfo(serviceName, local.getHostName(), local.getHostAddress());
-        } catch (Exception e) {
-            return new InstanceInfo(serviceName, "unknown", "unknown");
-        }
-    }
 }
-
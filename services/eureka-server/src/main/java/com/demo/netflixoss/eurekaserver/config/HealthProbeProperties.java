@@ -0,0 +1,15 @@
+package com.demo.netflixoss.eurekaserver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "registry.health-probe")
+public record HealthProbeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2s") Duration interval,
+        @DefaultValue("1s") Duration timeout,
+        @DefaultValue("2") int failureThreshold
+) {
+}
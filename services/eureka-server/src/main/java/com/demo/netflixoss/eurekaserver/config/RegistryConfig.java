@@ -0,0 +1,9 @@
+package com.demo.netflixoss.eurekaserver.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({RegistryStreamProperties.class, HealthProbeProperties.class})
+public class RegistryConfig {
+}
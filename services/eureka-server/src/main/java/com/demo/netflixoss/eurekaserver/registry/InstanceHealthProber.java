@@ -0,0 +1,132 @@
+package com.demo.netflixoss.eurekaserver.registry;
+
+import com.demo.netflixoss.eurekaserver.config.HealthProbeProperties;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.SSLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "registry.health-probe", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InstanceHealthProber {
+    private static final Logger log = LoggerFactory.getLogger(InstanceHealthProber.class);
+
+    private final PeerAwareInstanceRegistry registry;
+    private final Duration timeout;
+    private final int failureThreshold;
+    private final HttpClient httpClient;
+    private final Counter evictions;
+    private final Map<String, Integer> failures = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "registry-health-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InstanceHealthProber(
+            PeerAwareInstanceRegistry registry,
+            HealthProbeProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.registry = registry;
+        this.timeout = properties.timeout();
+        this.failureThreshold = properties.failureThreshold();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.timeout())
+                .build();
+        this.evictions = Counter.builder("registry.health-probe.evictions").register(meterRegistry);
+        long intervalMillis = properties.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::probeSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void probeSafely() {
+        try {
+            probe();
+        } catch (RuntimeException e) {
+            log.warn("Health probe round failed", e);
+        }
+    }
+
+    private void probe() {
+        Map<String, InstanceInfo> instances = new HashMap<>();
+        Map<String, CompletableFuture<Boolean>> probes = new HashMap<>();
+        for (Application application : registry.getApplications().getRegisteredApplications()) {
+            for (InstanceInfo instance : application.getInstances()) {
+                String url = healthUrl(instance);
+                if (instance.getStatus() != InstanceInfo.InstanceStatus.UP || url == null) {
+                    continue;
+                }
+                String key = RegistryInstance.key(instance.getAppName(), instance.getId());
+                instances.put(key, instance);
+                probes.put(key, healthy(url));
+            }
+        }
+
+        failures.keySet().retainAll(probes.keySet());
+        probes.forEach((key, probe) -> {
+            if (probe.join()) {
+                failures.remove(key);
+                return;
+            }
+            int count = failures.merge(key, 1, Integer::sum);
+            if (count < failureThreshold) {
+                return;
+            }
+            InstanceInfo instance = instances.get(key);
+            log.warn("Evicting {} after {} unanswered health probes of {}", key, count, healthUrl(instance));
+            failures.remove(key);
+            if (registry.cancel(instance.getAppName(), instance.getId(), false)) {
+                evictions.increment();
+            }
+        });
+    }
+
+    private CompletableFuture<Boolean> healthy(String url) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).handle((response, error) -> {
+            if (error == null) {
+                return true;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof SSLException;
+        });
+    }
+
+    private static String healthUrl(InstanceInfo instance) {
+        if (instance.isPortEnabled(InstanceInfo.PortType.SECURE) && instance.getSecureHealthCheckUrl() != null) {
+            return instance.getSecureHealthCheckUrl();
+        }
+        return instance.getHealthCheckUrl();
+    }
+}
@@ -0,0 +1,152 @@
+package com.demo.netflixoss.eurekaserver.registry;
+
+import com.demo.netflixoss.eurekaserver.config.RegistryStreamProperties;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RegistryEventStream {
+    static final String SNAPSHOT = "snapshot";
+    static final String REGISTERED = "registered";
+    static final String CANCELED = "canceled";
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryEventStream.class);
+
+    private final PeerAwareInstanceRegistry registry;
+    private final long timeoutMillis;
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> statuses = new HashMap<>();
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "registry-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long sequence;
+
+    public RegistryEventStream(
+            PeerAwareInstanceRegistry registry,
+            RegistryStreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.registry = registry;
+        this.timeoutMillis = properties.timeout().toMillis();
+        Gauge.builder("registry.stream.subscribers", subscribers, Set::size).register(meterRegistry);
+        long heartbeatMillis = properties.heartbeat().toMillis();
+        sender.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(emitter));
+        sender.execute(() -> {
+            if (send(emitter, ++sequence, SNAPSHOT, snapshot())) {
+                subscribers.add(emitter);
+            }
+        });
+        return emitter;
+    }
+
+    @EventListener
+    public void onRegistered(EurekaInstanceRegisteredEvent event) {
+        RegistryInstance instance = RegistryInstance.of(event.getInstanceInfo());
+        sender.execute(() -> {
+            statuses.put(RegistryInstance.key(instance.serviceId(), instance.instanceId()), instance.status());
+            broadcast(REGISTERED, List.of(instance));
+        });
+    }
+
+    @EventListener
+    public void onCanceled(EurekaInstanceCanceledEvent event) {
+        RegistryInstance instance = RegistryInstance.canceled(event.getAppName(), event.getServerId());
+        sender.execute(() -> {
+            if (statuses.remove(RegistryInstance.key(instance.serviceId(), instance.instanceId())) != null) {
+                broadcast(CANCELED, List.of(instance));
+            }
+        });
+    }
+
+    @EventListener
+    public void onRenewed(EurekaInstanceRenewedEvent event) {
+        if (event.getInstanceInfo() == null) {
+            return;
+        }
+        RegistryInstance instance = RegistryInstance.of(event.getInstanceInfo());
+        sender.execute(() -> {
+            String key = RegistryInstance.key(instance.serviceId(), instance.instanceId());
+            if (!instance.status().equals(statuses.put(key, instance.status()))) {
+                broadcast(REGISTERED, List.of(instance));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+    }
+
+    private void heartbeat() {
+        subscribers.removeIf(emitter -> !send(emitter, SseEmitter.event().comment("heartbeat")));
+    }
+
+    private List<RegistryInstance> snapshot() {
+        List<RegistryInstance> instances = new ArrayList<>();
+        for (Application application : registry.getApplications().getRegisteredApplications()) {
+            for (InstanceInfo info : application.getInstances()) {
+                RegistryInstance instance = RegistryInstance.of(info);
+                statuses.put(RegistryInstance.key(instance.serviceId(), instance.instanceId()), instance.status());
+                instances.add(instance);
+            }
+        }
+        return instances;
+    }
+
+    private void broadcast(String type, List<RegistryInstance> instances) {
+        long id = ++sequence;
+        subscribers.removeIf(emitter -> !send(emitter, id, type, instances));
+    }
+
+    private boolean send(SseEmitter emitter, long id, String type, List<RegistryInstance> instances) {
+        return send(emitter, SseEmitter.event()
+                .id(Long.toString(id))
+                .name(type)
+                .data(instances, MediaType.APPLICATION_JSON));
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping registry stream subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
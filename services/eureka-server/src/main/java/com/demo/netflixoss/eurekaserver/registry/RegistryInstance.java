@@ -0,0 +1,49 @@
+package com.demo.netflixoss.eurekaserver.registry;
+
+import com.netflix.appinfo.InstanceInfo;
+
+import java.util.Locale;
+import java.util.Map;
+
+public record RegistryInstance(
+        String serviceId,
+        String instanceId,
+        String host,
+        int port,
+        boolean secure,
+        String status,
+        Map<String, String> metadata
+) {
+    static RegistryInstance of(InstanceInfo info) {
+        boolean secure = info.isPortEnabled(InstanceInfo.PortType.SECURE);
+        return new RegistryInstance(
+                serviceId(info.getAppName()),
+                info.getId(),
+                info.getHostName(),
+                secure ? info.getSecurePort() : info.getPort(),
+                secure,
+                info.getStatus().name(),
+                info.getMetadata()
+        );
+    }
+
+    static RegistryInstance canceled(String appName, String instanceId) {
+        return new RegistryInstance(
+                serviceId(appName),
+                instanceId,
+                null,
+                0,
+                false,
+                InstanceInfo.InstanceStatus.UNKNOWN.name(),
+                Map.of()
+        );
+    }
+
+    static String key(String appName, String instanceId) {
+        return serviceId(appName) + "/" + instanceId;
+    }
+
+    private static String serviceId(String appName) {
+        return appName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.demo.netflixoss.eurekaserver.registry;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/registry")
+public class RegistryStreamController {
+    private final RegistryEventStream registryEventStream;
+
+    public RegistryStreamController(RegistryEventStream registryEventStream) {
+        this.registryEventStream = registryEventStream;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return registryEventStream.subscribe();
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.netflixoss.mtlsmiddleware.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class AccessLog {
+    private static final Logger log = LoggerFactory.getLogger("com.demo.netflixoss.mtlsmiddleware.access");
+
+    private final double sampleRate;
+
+    public AccessLog(@Value("${middleware.access-log.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void record(String endpoint, ClientCertInfo clientCertInfo) {
+        if (sampled()) {
+            log.atInfo()
+                    .addKeyValue("endpoint", endpoint)
+                    .addKeyValue("subject", clientCertInfo.subjectDn())
+                    .addKeyValue("serial", clientCertInfo.serialNumber())
+                    .log("mtls request");
+        }
+    }
+
+    public void record(String endpoint, ClientCertInfo clientCertInfo, int items) {
+        if (sampled()) {
+            log.atInfo()
+                    .addKeyValue("endpoint", endpoint)
+                    .addKeyValue("subject", clientCertInfo.subjectDn())
+                    .addKeyValue("serial", clientCertInfo.serialNumber())
+                    .addKeyValue("items", items)
+                    .log("mtls request");
+        }
+    }
+
+    private boolean sampled() {
+        return log.isInfoEnabled() && (sampleRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
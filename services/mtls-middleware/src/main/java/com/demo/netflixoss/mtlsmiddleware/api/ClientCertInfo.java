@@ -0,0 +1,14 @@
+package com.demo.netflixoss.mtlsmiddleware.api;
+
+import java.security.cert.X509Certificate;
+
+public record ClientCertInfo(String subjectDn, String serialNumber) {
+    public static final ClientCertInfo MISSING = new ClientCertInfo("MISSING", "MISSING");
+
+    public static ClientCertInfo of(X509Certificate certificate) {
+        return new ClientCertInfo(
+                certificate.getSubjectX500Principal().getName(),
+                certificate.getSerialNumber().toString()
+        );
+    }
+}
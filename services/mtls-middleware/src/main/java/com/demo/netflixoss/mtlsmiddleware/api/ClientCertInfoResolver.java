@@ -0,0 +1,49 @@
+package com.demo.netflixoss.mtlsmiddleware.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.cert.X509Certificate;
+
+@Component
+public class ClientCertInfoResolver {
+    private static final Logger log = LoggerFactory.getLogger(ClientCertInfoResolver.class);
+
+    private final Cache<X509Certificate, ClientCertInfo> cache;
+
+    public ClientCertInfoResolver(@Value("${middleware.client-cert-cache.maximum-size:1000}") long maximumSize) {
+        this.cache = maximumSize > 0
+                ? Caffeine.newBuilder().maximumSize(maximumSize).build()
+                : null;
+    }
+
+    public ClientCertInfo resolve(HttpServletRequest request) {
+        Object attr = request.getAttribute("jakarta.servlet.request.X509Certificate");
+        if (attr == null) {
+            attr = request.getAttribute("javax.servlet.request.X509Certificate");
+        }
+        if (!(attr instanceof X509Certificate[] chain)) {
+            return ClientCertInfo.MISSING;
+        }
+        return resolve(chain);
+    }
+
+    public ClientCertInfo resolve(X509Certificate[] chain) {
+        if (chain.length == 0) {
+            return ClientCertInfo.MISSING;
+        }
+        if (cache == null) {
+            return ClientCertInfo.of(chain[0]);
+        }
+        return cache.get(chain[0], certificate -> {
+            ClientCertInfo info = ClientCertInfo.of(certificate);
+            log.info("mTLS client cert subject='{}' serial='{}'", info.subjectDn(), info.serialNumber());
+            return info;
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.demo.netflixoss.mtlsmiddleware.api;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.nio.charset.StandardCharsets;
+
+public final class ClientCertJsonSplicer {
+    private static final byte[] SUBJECT_FIELD = "\"clientCertificateSubject\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SERIAL_FIELD = "\",\"clientCertificateSerial\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private ClientCertJsonSplicer() {
+    }
+
+    public static byte[] append(byte[] json, ClientCertInfo clientCertInfo) {
+        int close = lastNonWhitespace(json, json.length - 1);
+        int previous = close > 0 ? lastNonWhitespace(json, close - 1) : -1;
+        if (previous < 0 || json[close] != '}') {
+            throw new IllegalStateException("Backend response is not a JSON object");
+        }
+        boolean empty = json[previous] == '{';
+        byte[] subject = JsonStringEncoder.getInstance().quoteAsUTF8(clientCertInfo.subjectDn());
+        byte[] serial = JsonStringEncoder.getInstance().quoteAsUTF8(clientCertInfo.serialNumber());
+
+        byte[] out = new byte[close + (empty ? 0 : 1) + SUBJECT_FIELD.length + subject.length
+                + SERIAL_FIELD.length + serial.length + END.length];
+        int pos = copy(json, 0, close, out, 0);
+        if (!empty) {
+            out[pos++] = ',';
+        }
+        pos = copy(SUBJECT_FIELD, 0, SUBJECT_FIELD.length, out, pos);
+        pos = copy(subject, 0, subject.length, out, pos);
+        pos = copy(SERIAL_FIELD, 0, SERIAL_FIELD.length, out, pos);
+        pos = copy(serial, 0, serial.length, out, pos);
+        copy(END, 0, END.length, out, pos);
+        return out;
+    }
+
+    private static int lastNonWhitespace(byte[] json, int from) {
+        int i = from;
+        while (i >= 0 && (json[i] == ' ' || json[i] == '\n' || json[i] == '\r' || json[i] == '\t')) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int copy(byte[] src, int from, int length, byte[] dest, int pos) {
+        System.arraycopy(src, from, dest, pos, length);
+        return pos + length;
+    }
+}
@@ -1,51 +1,118 @@
 package com.demo.netflixoss.mtlsmiddleware.api;
 
+import com.demo.netflixoss.mtlsmiddleware.budget.RequestBudget;
 import com.demo.netflixoss.mtlsmiddleware.client.BackendClient;
+import com.demo.netflixoss.mtlsmiddleware.model.MiddlewareProcessedBatchItem;
 import com.demo.netflixoss.mtlsmiddleware.model.ProcessRequest;
-import com.demo.netflixoss.mtlsmiddleware.model.ProcessedResponse;
 import com.demo.netflixoss.mtlsmiddleware.model.MiddlewareProcessedResponse;
 import jakarta.servlet.http.HttpServletRequest;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.security.cert.X509Certificate;
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 public class MiddlewareController {
-    private static final Logger log = LoggerFactory.getLogger(MiddlewareController.class);
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
 
     private final BackendClient backendClient;
+    private final NdjsonRequestReader ndjsonRequestReader;
+    private final ClientCertInfoResolver clientCertInfoResolver;
+    private final AccessLog accessLog;
+    private final RequestBudget requestBudget;
 
-    public MiddlewareController(BackendClient backendClient) {
+    public MiddlewareController(
+            BackendClient backendClient,
+            NdjsonRequestReader ndjsonRequestReader,
+            ClientCertInfoResolver clientCertInfoResolver,
+            AccessLog accessLog,
+            RequestBudget requestBudget
+    ) {
         this.backendClient = backendClient;
+        this.ndjsonRequestReader = ndjsonRequestReader;
+        this.clientCertInfoResolver = clientCertInfoResolver;
+        this.accessLog = accessLog;
+        this.requestBudget = requestBudget;
     }
 
-    @PostMapping(path = "/middleware/process", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public MiddlewareProcessedResponse process(@RequestBody ProcessRequest request, HttpServletRequest servletRequest) {
-        ClientCertInfo clientCertInfo = extractClientCertInfo(servletRequest);
-        log.info("mTLS client cert subject='{}' serial='{}'", clientCertInfo.subjectDn(), clientCertInfo.serialNumber());
+    @PostMapping(
+            path = "/middleware/process",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public Mono<MiddlewareProcessedResponse> process(
+            @RequestBody ProcessRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = RequestBudget.HEADER, required = false) String budget,
+            HttpServletRequest servletRequest
+    ) {
+        ClientCertInfo clientCertInfo = clientCertInfoResolver.resolve(servletRequest);
+        accessLog.record("process", clientCertInfo);
 
-        ProcessedResponse backendResponse = backendClient.forwardToBackend(request, clientCertInfo.subjectDn(), clientCertInfo.serialNumber());
-        return MiddlewareProcessedResponse.fromBackend(backendResponse, clientCertInfo.subjectDn(), clientCertInfo.serialNumber());
+        return backendClient.forwardToBackend(request, clientCertInfo.subjectDn(), clientCertInfo.serialNumber(), idempotencyKey)
+                .map(backendResponse -> MiddlewareProcessedResponse.fromBackend(
+                        backendResponse,
+                        clientCertInfo.subjectDn(),
+                        clientCertInfo.serialNumber()
+                ))
+                .contextWrite(requestBudget.context(budget));
     }
 
-    private ClientCertInfo extractClientCertInfo(HttpServletRequest request) {
-        Object attr = request.getAttribute("jakarta.servlet.request.X509Certificate");
-        if (attr == null) {
-            attr = request.getAttribute("javax.servlet.request.X509Certificate");
-        }
-        if (!(attr instanceof X509Certificate[] chain) || chain.length == 0) {
-            return new ClientCertInfo("MISSING", "MISSING");
-        }
-        X509Certificate client = chain[0];
-        return new ClientCertInfo(client.getSubjectX500Principal().getName(), client.getSerialNumber().toString());
+    @PostMapping(path = "/middleware/process/raw", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<byte[]> processRaw(
+            @RequestBody byte[] request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = RequestBudget.HEADER, required = false) String budget,
+            HttpServletRequest servletRequest
+    ) {
+        ClientCertInfo clientCertInfo = clientCertInfoResolver.resolve(servletRequest);
+        accessLog.record("raw", clientCertInfo);
+
+        return backendClient.forwardRawToBackend(request, clientCertInfo.subjectDn(), clientCertInfo.serialNumber(), idempotencyKey)
+                .map(backendResponse -> ClientCertJsonSplicer.append(backendResponse, clientCertInfo))
+                .contextWrite(requestBudget.context(budget));
     }
 
-    private record ClientCertInfo(String subjectDn, String serialNumber) {
+    @PostMapping(
+            path = "/middleware/process/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public Mono<List<MiddlewareProcessedBatchItem>> processBatch(
+            @RequestBody List<ProcessRequest> requests,
+            @RequestHeader(value = RequestBudget.HEADER, required = false) String budget,
+            HttpServletRequest servletRequest
+    ) {
+        ClientCertInfo clientCertInfo = clientCertInfoResolver.resolve(servletRequest);
+        accessLog.record("batch", clientCertInfo, requests.size());
+
+        return backendClient.forwardBatchToBackend(requests, clientCertInfo.subjectDn(), clientCertInfo.serialNumber())
+                .map(items -> items.stream()
+                        .map(item -> MiddlewareProcessedBatchItem.fromBackend(
+                                item,
+                                clientCertInfo.subjectDn(),
+                                clientCertInfo.serialNumber()
+                        ))
+                        .toList())
+                .contextWrite(requestBudget.context(budget));
     }
-}
 
+    @PostMapping(path = "/middleware/process/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MiddlewareProcessedResponse> processStream(InputStream body, HttpServletRequest servletRequest) {
+        ClientCertInfo clientCertInfo = clientCertInfoResolver.resolve(servletRequest);
+        accessLog.record("stream", clientCertInfo);
+
+        return backendClient.streamToBackend(ndjsonRequestReader.read(body), clientCertInfo.subjectDn(), clientCertInfo.serialNumber())
+                .map(backendResponse -> MiddlewareProcessedResponse.fromBackend(
+                        backendResponse,
+                        clientCertInfo.subjectDn(),
+                        clientCertInfo.serialNumber()
+                ));
+    }
+}
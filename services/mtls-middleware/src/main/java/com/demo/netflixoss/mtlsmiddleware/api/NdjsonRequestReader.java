@@ -0,0 +1,46 @@
+package com.demo.netflixoss.mtlsmiddleware.api;
+
+import com.demo.netflixoss.mtlsmiddleware.model.ProcessRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class NdjsonRequestReader {
+    private final ObjectReader requestReader;
+
+    public NdjsonRequestReader(ObjectMapper objectMapper) {
+        this.requestReader = objectMapper.readerFor(ProcessRequest.class);
+    }
+
+    public Flux<ProcessRequest> read(InputStream body) {
+        return Flux.<ProcessRequest, BufferedReader>generate(
+                        () -> new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+                        (lines, sink) -> {
+                            try {
+                                String line = lines.readLine();
+                                while (line != null && line.isBlank()) {
+                                    line = lines.readLine();
+                                }
+                                if (line == null) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(requestReader.readValue(line));
+                                }
+                            } catch (IOException e) {
+                                sink.error(e);
+                            }
+                            return lines;
+                        }
+                )
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
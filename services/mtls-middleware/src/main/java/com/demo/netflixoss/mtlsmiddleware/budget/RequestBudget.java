@@ -0,0 +1,74 @@
+package com.demo.netflixoss.mtlsmiddleware.budget;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class RequestBudget {
+    public static final String HEADER = "X-Request-Budget";
+
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+
+    public RequestBudget(
+            @Value("${middleware.request-budget.default:10s}") Duration defaultBudget,
+            @Value("${middleware.request-budget.max:30s}") Duration maxBudget
+    ) {
+        this.defaultBudget = defaultBudget;
+        this.maxBudget = maxBudget;
+    }
+
+    public Context context(String header) {
+        return Context.of(Deadline.class, Deadline.after(parse(header)));
+    }
+
+    public <T> Mono<T> within(Function<String, Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            Duration remaining = context.<Deadline>getOrEmpty(Deadline.class)
+                    .map(Deadline::remaining)
+                    .orElse(defaultBudget);
+            if (remaining.isNegative() || remaining.isZero()) {
+                return Mono.error(exhausted());
+            }
+            return call.apply(Long.toString(remaining.toMillis()))
+                    .timeout(remaining, Mono.error(RequestBudget::exhausted));
+        });
+    }
+
+    public static ResponseStatusException exhausted() {
+        return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Request budget exhausted");
+    }
+
+    private Duration parse(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultBudget;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            if (millis <= 0) {
+                return defaultBudget;
+            }
+            Duration budget = Duration.ofMillis(millis);
+            return budget.compareTo(maxBudget) > 0 ? maxBudget : budget;
+        } catch (NumberFormatException e) {
+            return defaultBudget;
+        }
+    }
+
+    private record Deadline(long nanoTime) {
+        static Deadline after(Duration budget) {
+            return new Deadline(System.nanoTime() + budget.toNanos());
+        }
+
+        Duration remaining() {
+            return Duration.ofNanos(nanoTime - System.nanoTime());
+        }
+    }
+}
@@ -1,36 +1,166 @@
 package com.demo.netflixoss.mtlsmiddleware.client;
 
+import com.demo.netflixoss.mtlsmiddleware.budget.RequestBudget;
+import com.demo.netflixoss.mtlsmiddleware.config.BackendClientProperties;
 import com.demo.netflixoss.mtlsmiddleware.model.ProcessRequest;
+import com.demo.netflixoss.mtlsmiddleware.model.ProcessedBatchItem;
 import com.demo.netflixoss.mtlsmiddleware.model.ProcessedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Component
 public class BackendClient {
 
     private final WebClient webClient;
+    private final WebClient hedgeWebClient;
+    private final MediaType wireMediaType;
+    private final RequestBudget requestBudget;
+    private final Hedging hedging;
 
     public BackendClient(
-            WebClient.Builder webClientBuilder,
+            WebClient backendWebClient,
+            BackendClientProperties properties,
+            RequestBudget requestBudget,
+            MeterRegistry meterRegistry,
             @Value("${backend.base-url}") String backendBaseUrl
     ) {
-        this.webClient = webClientBuilder.baseUrl(backendBaseUrl).build();
+        String hedgeBaseUrl = properties.hedge().baseUrl();
+        if (properties.hedge().enabled() && (hedgeBaseUrl.isBlank() || hedgeBaseUrl.equals(backendBaseUrl))) {
+            throw new IllegalStateException("backend.client.hedge.base-url must point to a different backend than backend.base-url when hedging is enabled");
+        }
+        this.webClient = backendWebClient.mutate().baseUrl(backendBaseUrl).build();
+        this.hedgeWebClient = hedgeBaseUrl.isBlank()
+                ? webClient
+                : backendWebClient.mutate().baseUrl(hedgeBaseUrl).build();
+        this.wireMediaType = properties.wireFormat().mediaType();
+        this.requestBudget = requestBudget;
+        this.hedging = new Hedging(properties.hedge(), meterRegistry);
     }
 
-    public ProcessedResponse forwardToBackend(ProcessRequest request, String clientSubject, String clientSerial) {
-        return webClient
+    public Mono<ProcessedResponse> forwardToBackend(
+            ProcessRequest request,
+            String clientSubject,
+            String clientSerial,
+            String idempotencyKey
+    ) {
+        return requestBudget.within(budget -> hedging.call(
+                () -> forwardToBackend(webClient, request, clientSubject, clientSerial, idempotencyKey, budget),
+                () -> forwardToBackend(hedgeWebClient, request, clientSubject, clientSerial, idempotencyKey, budget)
+        ));
+    }
+
+    private Mono<ProcessedResponse> forwardToBackend(
+            WebClient client,
+            ProcessRequest request,
+            String clientSubject,
+            String clientSerial,
+            String idempotencyKey,
+            String budget
+    ) {
+        return client
+                .post()
+                .uri("/backend/process")
+                .contentType(wireMediaType)
+                .accept(wireMediaType)
+                .header("X-Client-Subject", clientSubject)
+                .header("X-Client-Serial", clientSerial)
+                .header(RequestBudget.HEADER, budget)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set("Idempotency-Key", idempotencyKey);
+                    }
+                })
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(
+                        HttpStatus.UNPROCESSABLE_ENTITY::isSameCodeAs,
+                        response -> Mono.just(new ResponseStatusException(
+                                HttpStatus.UNPROCESSABLE_ENTITY,
+                                "Idempotency-Key was already used with a different request"
+                        ))
+                )
+                .bodyToMono(ProcessedResponse.class);
+    }
+
+    public Mono<byte[]> forwardRawToBackend(
+            byte[] request,
+            String clientSubject,
+            String clientSerial,
+            String idempotencyKey
+    ) {
+        return requestBudget.within(budget -> hedging.call(
+                () -> forwardRawToBackend(webClient, request, clientSubject, clientSerial, idempotencyKey, budget),
+                () -> forwardRawToBackend(hedgeWebClient, request, clientSubject, clientSerial, idempotencyKey, budget)
+        ));
+    }
+
+    private Mono<byte[]> forwardRawToBackend(
+            WebClient client,
+            byte[] request,
+            String clientSubject,
+            String clientSerial,
+            String idempotencyKey,
+            String budget
+    ) {
+        return client
                 .post()
                 .uri("/backend/process")
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
                 .header("X-Client-Subject", clientSubject)
                 .header("X-Client-Serial", clientSerial)
+                .header(RequestBudget.HEADER, budget)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set("Idempotency-Key", idempotencyKey);
+                    }
+                })
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ProcessedResponse.class)
-                .block();
+                .onStatus(
+                        HttpStatus.UNPROCESSABLE_ENTITY::isSameCodeAs,
+                        response -> Mono.just(new ResponseStatusException(
+                                HttpStatus.UNPROCESSABLE_ENTITY,
+                                "Idempotency-Key was already used with a different request"
+                        ))
+                )
+                .bodyToMono(byte[].class);
+    }
+
+    public Mono<List<ProcessedBatchItem>> forwardBatchToBackend(List<ProcessRequest> requests, String clientSubject, String clientSerial) {
+        return requestBudget.within(budget -> webClient
+                .post()
+                .uri("/backend/process/batch")
+                .contentType(wireMediaType)
+                .accept(wireMediaType)
+                .header("X-Client-Subject", clientSubject)
+                .header("X-Client-Serial", clientSerial)
+                .header(RequestBudget.HEADER, budget)
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToFlux(ProcessedBatchItem.class)
+                .collectList());
     }
-}
 
+    public Flux<ProcessedResponse> streamToBackend(Flux<ProcessRequest> requests, String clientSubject, String clientSerial) {
+        return webClient
+                .post()
+                .uri("/backend/process/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .header("X-Client-Subject", clientSubject)
+                .header("X-Client-Serial", clientSerial)
+                .body(requests, ProcessRequest.class)
+                .retrieve()
+                .bodyToFlux(ProcessedResponse.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.demo.netflixoss.mtlsmiddleware.client;
+
+import com.demo.netflixoss.mtlsmiddleware.config.BackendClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+public class Hedging {
+    private static final int SAMPLES = 1024;
+    private static final int MIN_SAMPLES = 50;
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int TOKEN = 1000;
+    private static final int MAX_TOKENS = 100 * TOKEN;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int tokensPerRequest;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong refreshedAt = new AtomicLong(System.nanoTime());
+    private final AtomicInteger tokens = new AtomicInteger();
+    private final Counter sent;
+    private final Counter won;
+    private volatile long delayNanos;
+
+    public Hedging(BackendClientProperties.Hedge properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.percentile = properties.percentile();
+        this.minDelayNanos = properties.minDelay().toNanos();
+        this.tokensPerRequest = (int) Math.round(properties.maxRatio() * TOKEN);
+        this.delayNanos = minDelayNanos;
+        this.sent = Counter.builder("middleware.backend.hedges").tag("result", "sent").register(meterRegistry);
+        this.won = Counter.builder("middleware.backend.hedges").tag("result", "won").register(meterRegistry);
+        Gauge.builder("middleware.backend.hedge.delay", this, hedging -> hedging.delayNanos / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> call(Supplier<Mono<T>> primary, Supplier<Mono<T>> hedge) {
+        if (!enabled) {
+            return primary.get();
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            tokens.getAndUpdate(current -> Math.min(MAX_TOKENS, current + tokensPerRequest));
+            Mono<T> first = primary.get().doOnSuccess(value -> record(System.nanoTime() - start));
+            Mono<T> second = Mono.delay(Duration.ofNanos(delay(start)))
+                    .flatMap(tick -> {
+                        if (!takeToken()) {
+                            return Mono.never();
+                        }
+                        sent.increment();
+                        long hedgeStart = System.nanoTime();
+                        return hedge.get()
+                                .doOnSuccess(value -> {
+                                    won.increment();
+                                    record(System.nanoTime() - hedgeStart);
+                                })
+                                .onErrorResume(error -> Mono.never());
+                    });
+            return Mono.firstWithSignal(first, second);
+        });
+    }
+
+    private boolean takeToken() {
+        int current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    private void record(long nanos) {
+        samples.set((int) (sampleCount.getAndIncrement() & (SAMPLES - 1)), nanos);
+    }
+
+    private long delay(long now) {
+        long last = refreshedAt.get();
+        if (now - last > REFRESH_NANOS && refreshedAt.compareAndSet(last, now)) {
+            int count = (int) Math.min(sampleCount.get(), SAMPLES);
+            if (count >= MIN_SAMPLES) {
+                long[] sorted = new long[count];
+                for (int i = 0; i < count; i++) {
+                    sorted[i] = samples.get(i);
+                }
+                Arrays.sort(sorted);
+                int index = Math.min(count - 1, (int) Math.ceil(percentile * count) - 1);
+                delayNanos = Math.max(minDelayNanos, sorted[index]);
+            }
+        }
+        return delayNanos;
+    }
+}
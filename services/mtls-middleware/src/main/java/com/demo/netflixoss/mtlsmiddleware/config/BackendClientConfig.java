@@ -0,0 +1,103 @@
+package com.demo.netflixoss.mtlsmiddleware.config;
+
+import com.demo.netflixoss.mtlsmiddleware.client.TimedDecoder;
+import com.demo.netflixoss.mtlsmiddleware.client.TimedEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(BackendClientProperties.class)
+public class BackendClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider backendConnectionProvider(BackendClientProperties properties) {
+        BackendClientProperties.Pool pool = properties.pool();
+        return ConnectionProvider.builder("backend")
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictionInterval())
+                .metrics(pool.metricsEnabled())
+                .build();
+    }
+
+    @Bean
+    public WebClient backendWebClient(
+            WebClient.Builder webClientBuilder,
+            BackendClientProperties properties,
+            ConnectionProvider backendConnectionProvider,
+            MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        HttpClient httpClient = HttpClient.create(backendConnectionProvider)
+                .protocol(properties.protocol() == BackendClientProperties.Protocol.H2C
+                        ? HttpProtocol.H2C
+                        : HttpProtocol.HTTP11)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout())
+                .metrics(properties.pool().metricsEnabled(), uri -> "/backend");
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(timeToFirstByte(Timer.builder("middleware.backend.ttfb").register(meterRegistry)))
+                .codecs(codecs -> {
+                    ObjectMapper smileObjectMapper = smileHttpMessageConverter.getObjectMapper();
+                    MimeType smile = BackendClientProperties.WireFormat.SMILE.mediaType();
+                    codecs.defaultCodecs().jackson2JsonEncoder(new TimedEncoder(
+                            new Jackson2JsonEncoder(objectMapper),
+                            serializationTimer(meterRegistry, "encode", "json")
+                    ));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new TimedDecoder(
+                            new Jackson2JsonDecoder(objectMapper),
+                            serializationTimer(meterRegistry, "decode", "json")
+                    ));
+                    codecs.customCodecs().register(new TimedEncoder(
+                            new Jackson2SmileEncoder(smileObjectMapper, smile),
+                            serializationTimer(meterRegistry, "encode", "smile")
+                    ));
+                    codecs.customCodecs().register(new TimedDecoder(
+                            new Jackson2SmileDecoder(smileObjectMapper, smile),
+                            serializationTimer(meterRegistry, "decode", "smile")
+                    ));
+                })
+                .build();
+    }
+
+    private static ExchangeFilterFunction timeToFirstByte(Timer timer) {
+        return (request, next) -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Timer serializationTimer(MeterRegistry meterRegistry, String operation, String format) {
+        return Timer.builder("middleware.backend.serialization")
+                .tag("operation", operation)
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+}
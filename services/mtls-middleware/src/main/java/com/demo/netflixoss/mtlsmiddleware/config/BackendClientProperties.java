@@ -0,0 +1,57 @@
+package com.demo.netflixoss.mtlsmiddleware.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "backend.client")
+public record BackendClientProperties(
+        @DefaultValue("http11") Protocol protocol,
+        @DefaultValue("json") WireFormat wireFormat,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue Pool pool,
+        @DefaultValue Hedge hedge
+) {
+    public enum Protocol {
+        HTTP11,
+        H2C
+    }
+
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        WireFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+    }
+
+    public record Pool(
+            @DefaultValue("500") int maxConnections,
+            @DefaultValue("5000") int pendingAcquireMaxCount,
+            @DefaultValue("5s") Duration pendingAcquireTimeout,
+            @DefaultValue("20s") Duration maxIdleTime,
+            @DefaultValue("10m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval,
+            @DefaultValue("true") boolean metricsEnabled
+    ) {
+    }
+
+    public record Hedge(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("") String baseUrl,
+            @DefaultValue("0.95") double percentile,
+            @DefaultValue("5ms") Duration minDelay,
+            @DefaultValue("0.1") double maxRatio
+    ) {
+    }
+}
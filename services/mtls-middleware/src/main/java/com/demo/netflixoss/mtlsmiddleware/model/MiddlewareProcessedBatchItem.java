@@ -0,0 +1,18 @@
+package com.demo.netflixoss.mtlsmiddleware.model;
+
+public record MiddlewareProcessedBatchItem(
+        int index,
+        MiddlewareProcessedResponse response,
+        String error
+) {
+    public static MiddlewareProcessedBatchItem fromBackend(
+            ProcessedBatchItem backend,
+            String clientCertificateSubject,
+            String clientCertificateSerial
+    ) {
+        MiddlewareProcessedResponse response = backend.response() == null
+                ? null
+                : MiddlewareProcessedResponse.fromBackend(backend.response(), clientCertificateSubject, clientCertificateSerial);
+        return new MiddlewareProcessedBatchItem(backend.index(), response, backend.error());
+    }
+}
@@ -0,0 +1,8 @@
+package com.demo.netflixoss.mtlsmiddleware.model;
+
+public record ProcessedBatchItem(
+        int index,
+        ProcessedResponse response,
+        String error
+) {
+}
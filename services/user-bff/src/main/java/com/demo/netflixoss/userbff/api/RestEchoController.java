@@ -1,26 +1,65 @@
 package com.demo.netflixoss.userbff.api;
 
+import com.demo.netflixoss.userbff.budget.RequestBudget;
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedBatchItem;
 import com.demo.netflixoss.userbff.model.ProcessRequest;
 import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
+import com.demo.netflixoss.userbff.service.ApiProtocol;
 import com.demo.netflixoss.userbff.service.BffProcessingService;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/rest")
 public class RestEchoController {
     private final BffProcessingService bffProcessingService;
+    private final NdjsonRequestReader ndjsonRequestReader;
+    private final RequestBudget requestBudget;
 
-    public RestEchoController(BffProcessingService bffProcessingService) {
+    public RestEchoController(
+            BffProcessingService bffProcessingService,
+            NdjsonRequestReader ndjsonRequestReader,
+            RequestBudget requestBudget
+    ) {
         this.bffProcessingService = bffProcessingService;
+        this.ndjsonRequestReader = ndjsonRequestReader;
+        this.requestBudget = requestBudget;
     }
 
     @PostMapping(path = "/echo", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public MiddlewareProcessedResponse echo(@RequestBody ProcessRequest request) {
-        return bffProcessingService.processViaMiddleware(request);
+    public Mono<MiddlewareProcessedResponse> echo(
+            @RequestBody ProcessRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = RequestBudget.HEADER, required = false) String budget
+    ) {
+        return bffProcessingService.processViaMiddleware(ApiProtocol.REST, request, idempotencyKey)
+                .contextWrite(requestBudget.context(budget));
+    }
+
+    @PostMapping(path = "/echo/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<MiddlewareProcessedBatchItem>> echoBatch(
+            @RequestBody List<ProcessRequest> requests,
+            @RequestHeader(value = RequestBudget.HEADER, required = false) String budget
+    ) {
+        return bffProcessingService.processBatchViaMiddleware(requests)
+                .contextWrite(requestBudget.context(budget));
     }
-}
 
+    @PostMapping(
+            path = "/echo/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE}
+    )
+    public Flux<MiddlewareProcessedResponse> echoStream(InputStream body) {
+        return bffProcessingService.processStreamViaMiddleware(ndjsonRequestReader.read(body));
+    }
+}
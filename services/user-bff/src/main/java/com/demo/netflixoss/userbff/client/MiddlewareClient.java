@@ -1,33 +1,89 @@
 package com.demo.netflixoss.userbff.client;
 
+import com.demo.netflixoss.userbff.budget.RequestBudget;
+import com.demo.netflixoss.userbff.config.MtlsClientProperties;
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedBatchItem;
 import com.demo.netflixoss.userbff.model.ProcessRequest;
 import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Component
 public class MiddlewareClient {
     private final WebClient webClient;
+    private final MediaType wireMediaType;
+    private final String processUri;
+    private final MediaType processMediaType;
+    private final RequestBudget requestBudget;
 
     public MiddlewareClient(
             WebClient middlewareWebClient,
+            MtlsClientProperties properties,
+            RequestBudget requestBudget,
             @Value("${middleware.base-url}") String middlewareBaseUrl
     ) {
+        this.requestBudget = requestBudget;
         this.webClient = middlewareWebClient.mutate().baseUrl(middlewareBaseUrl).build();
+        this.wireMediaType = properties.wireFormat().mediaType();
+        this.processUri = properties.passThrough() ? "/middleware/process/raw" : "/middleware/process";
+        this.processMediaType = properties.passThrough() ? MediaType.APPLICATION_JSON : wireMediaType;
     }
 
-    public MiddlewareProcessedResponse process(ProcessRequest request) {
-        return webClient
+    public Mono<MiddlewareProcessedResponse> process(ProcessRequest request, String idempotencyKey) {
+        return requestBudget.within(budget -> webClient
                 .post()
-                .uri("/middleware/process")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
+                .uri(processUri)
+                .contentType(processMediaType)
+                .accept(processMediaType)
+                .header(RequestBudget.HEADER, budget)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set("Idempotency-Key", idempotencyKey);
+                    }
+                })
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(MiddlewareProcessedResponse.class)
-                .block();
+                .onStatus(
+                        HttpStatus.UNPROCESSABLE_ENTITY::isSameCodeAs,
+                        response -> Mono.just(new ResponseStatusException(
+                                HttpStatus.UNPROCESSABLE_ENTITY,
+                                "Idempotency-Key was already used with a different request"
+                        ))
+                )
+                .onStatus(HttpStatus.GATEWAY_TIMEOUT::isSameCodeAs, response -> Mono.just(RequestBudget.exhausted()))
+                .bodyToMono(MiddlewareProcessedResponse.class));
+    }
+
+    public Mono<List<MiddlewareProcessedBatchItem>> processBatch(List<ProcessRequest> requests) {
+        return requestBudget.within(budget -> webClient
+                .post()
+                .uri("/middleware/process/batch")
+                .contentType(wireMediaType)
+                .accept(wireMediaType)
+                .header(RequestBudget.HEADER, budget)
+                .bodyValue(requests)
+                .retrieve()
+                .onStatus(HttpStatus.GATEWAY_TIMEOUT::isSameCodeAs, response -> Mono.just(RequestBudget.exhausted()))
+                .bodyToFlux(MiddlewareProcessedBatchItem.class)
+                .collectList());
     }
-}
 
+    public Flux<MiddlewareProcessedResponse> processStream(Flux<ProcessRequest> requests) {
+        return webClient
+                .post()
+                .uri("/middleware/process/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(requests, ProcessRequest.class)
+                .retrieve()
+                .bodyToFlux(MiddlewareProcessedResponse.class);
+    }
+}
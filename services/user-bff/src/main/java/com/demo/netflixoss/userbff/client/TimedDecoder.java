@@ -0,0 +1,84 @@
+package com.demo.netflixoss.userbff.client;
+
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.HttpMessageDecoder;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class TimedDecoder implements HttpMessageDecoder<Object> {
+    private final AbstractJackson2Decoder delegate;
+    private final Timer timer;
+
+    public TimedDecoder(AbstractJackson2Decoder delegate, Timer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return delegate.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<Object> decode(
+            Publisher<DataBuffer> inputStream,
+            ResolvableType elementType,
+            MimeType mimeType,
+            Map<String, Object> hints
+    ) {
+        return delegate.decode(inputStream, elementType, mimeType, hints);
+    }
+
+    @Override
+    public Mono<Object> decodeToMono(
+            Publisher<DataBuffer> inputStream,
+            ResolvableType elementType,
+            MimeType mimeType,
+            Map<String, Object> hints
+    ) {
+        return DataBufferUtils.join(inputStream, delegate.getMaxInMemorySize())
+                .flatMap(buffer -> Mono.justOrEmpty(decode(buffer, elementType, mimeType, hints)));
+    }
+
+    @Override
+    public Object decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+        long start = System.nanoTime();
+        try {
+            return delegate.decode(buffer, targetType, mimeType, hints);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return delegate.getDecodableMimeTypes();
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes(ResolvableType targetType) {
+        return delegate.getDecodableMimeTypes(targetType);
+    }
+
+    @Override
+    public Map<String, Object> getDecodeHints(
+            ResolvableType actualType,
+            ResolvableType elementType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        return delegate.getDecodeHints(actualType, elementType, request, response);
+    }
+}
@@ -0,0 +1,16 @@
+package com.demo.netflixoss.userbff.config;
+
+import com.demo.netflixoss.userbff.service.ApiProtocol;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "bff.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0ms") Duration window,
+        @DefaultValue Set<ApiProtocol> excludedProtocols
+) {
+}
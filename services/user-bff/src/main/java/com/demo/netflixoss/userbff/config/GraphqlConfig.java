@@ -0,0 +1,55 @@
+package com.demo.netflixoss.userbff.config;
+
+import com.demo.netflixoss.userbff.budget.RequestBudget;
+import com.demo.netflixoss.userbff.graphql.DocumentCache;
+import com.demo.netflixoss.userbff.graphql.PersistedQueryRequestFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+
+@Configuration
+@EnableConfigurationProperties(GraphqlProperties.class)
+public class GraphqlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphqlProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.maxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphqlProperties properties) {
+        return new MaxQueryComplexityInstrumentation(properties.maxComplexity());
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer documentCacheCustomizer(GraphqlProperties properties, MeterRegistry meterRegistry) {
+        DocumentCache documentCache = new DocumentCache(properties.documentCacheSize(), meterRegistry);
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentCache));
+    }
+
+    @Bean
+    public WebGraphQlInterceptor requestBudgetInterceptor(RequestBudget requestBudget) {
+        return (request, chain) -> chain.next(request)
+                .contextWrite(requestBudget.context(request.getHeaders().getFirst(RequestBudget.HEADER)));
+    }
+
+    @Bean
+    public FilterRegistrationBean<PersistedQueryRequestFilter> persistedQueryRequestFilter(
+            ObjectMapper objectMapper,
+            GraphqlProperties properties,
+            @Value("${spring.graphql.path:/graphql}") String graphqlPath
+    ) {
+        FilterRegistrationBean<PersistedQueryRequestFilter> registration =
+                new FilterRegistrationBean<>(new PersistedQueryRequestFilter(objectMapper, properties.maxBodySize()));
+        registration.addUrlPatterns(graphqlPath);
+        return registration;
+    }
+}
@@ -0,0 +1,14 @@
+package com.demo.netflixoss.userbff.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "bff.graphql")
+public record GraphqlProperties(
+        @DefaultValue("8") int maxDepth,
+        @DefaultValue("2000") int maxComplexity,
+        @DefaultValue("1000") long documentCacheSize,
+        @DefaultValue("256KB") DataSize maxBodySize
+) {
+}
@@ -1,6 +1,10 @@
 package com.demo.netflixoss.userbff.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "mtls.client")
 public record MtlsClientProperties(
@@ -8,7 +12,54 @@ public record MtlsClientProperties(
         String keyStorePassword,
         String trustStore,
         String trustStorePassword,
-        boolean insecureSkipHostnameVerification
+        boolean insecureSkipHostnameVerification,
+        @DefaultValue("http11") Protocol protocol,
+        @DefaultValue("json") WireFormat wireFormat,
+        @DefaultValue("false") boolean passThrough,
+        @DefaultValue Pool pool,
+        @DefaultValue Tls tls
 ) {
-}
+    public enum Protocol {
+        HTTP11,
+        H2
+    }
+
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        WireFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
 
+        public MediaType mediaType() {
+            return mediaType;
+        }
+    }
+
+    public enum Provider {
+        JDK,
+        OPENSSL
+    }
+
+    public record Pool(
+            @DefaultValue("500") int maxConnections,
+            @DefaultValue("1000") int pendingAcquireMaxCount,
+            @DefaultValue("5s") Duration pendingAcquireTimeout,
+            @DefaultValue("20s") Duration maxIdleTime,
+            @DefaultValue("10m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval,
+            @DefaultValue("true") boolean metricsEnabled
+    ) {
+    }
+
+    public record Tls(
+            @DefaultValue("jdk") Provider provider,
+            @DefaultValue("10s") Duration handshakeTimeout,
+            @DefaultValue("1000") long sessionCacheSize,
+            @DefaultValue("1h") Duration sessionTimeout
+    ) {
+    }
+}
@@ -1,12 +1,35 @@
 package com.demo.netflixoss.userbff.config;
 
-import io.netty.handler.ssl.SslContext;
+import com.demo.netflixoss.userbff.client.TimedDecoder;
+import com.demo.netflixoss.userbff.client.TimedEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider.ProtocolSslContextSpec;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 
 import javax.net.ssl.KeyManagerFactory;
@@ -15,34 +38,122 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Configuration
 @EnableConfigurationProperties(MtlsClientProperties.class)
 public class MtlsWebClientConfig {
+    private static final Logger log = LoggerFactory.getLogger(MtlsWebClientConfig.class);
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider middlewareConnectionProvider(MtlsClientProperties properties) {
+        MtlsClientProperties.Pool pool = properties.pool();
+        return ConnectionProvider.builder("middleware")
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictionInterval())
+                .metrics(pool.metricsEnabled())
+                .build();
+    }
 
     @Bean
-    public WebClient middlewareWebClient(MtlsClientProperties properties) {
-        HttpClient httpClient = HttpClient.create()
-                .secure(sslSpec -> sslSpec.sslContext(buildSslContext(properties)));
+    public WebClient middlewareWebClient(
+            WebClient.Builder webClientBuilder,
+            MtlsClientProperties properties,
+            ConnectionProvider middlewareConnectionProvider,
+            Jackson2ObjectMapperBuilder objectMapperBuilder,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        ProtocolSslContextSpec sslContextSpec = buildSslContextSpec(properties);
+        HttpClient httpClient = HttpClient.create(middlewareConnectionProvider)
+                .protocol(properties.protocol() == MtlsClientProperties.Protocol.H2
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .metrics(properties.pool().metricsEnabled(), uri -> "/middleware")
+                .secure(sslSpec -> sslSpec
+                        .sslContext(sslContextSpec)
+                        .handshakeTimeout(properties.tls().handshakeTimeout()));
 
-        return WebClient.builder()
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper smileObjectMapper = objectMapperBuilder.factory(smileFactory).build();
+        MimeType smile = MtlsClientProperties.WireFormat.SMILE.mediaType();
+        return webClientBuilder
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(timeToFirstByte(Timer.builder("bff.middleware.ttfb").register(meterRegistry)))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new TimedEncoder(
+                            new Jackson2JsonEncoder(objectMapper),
+                            serializationTimer(meterRegistry, "encode", "json")
+                    ));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new TimedDecoder(
+                            new Jackson2JsonDecoder(objectMapper),
+                            serializationTimer(meterRegistry, "decode", "json")
+                    ));
+                    codecs.customCodecs().register(new TimedEncoder(
+                            new Jackson2SmileEncoder(smileObjectMapper, smile),
+                            serializationTimer(meterRegistry, "encode", "smile")
+                    ));
+                    codecs.customCodecs().register(new TimedDecoder(
+                            new Jackson2SmileDecoder(smileObjectMapper, smile),
+                            serializationTimer(meterRegistry, "decode", "smile")
+                    ));
+                })
                 .build();
     }
 
-    private SslContext buildSslContext(MtlsClientProperties properties) {
+    private static ExchangeFilterFunction timeToFirstByte(Timer timer) {
+        return (request, next) -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Timer serializationTimer(MeterRegistry meterRegistry, String operation, String format) {
+        return Timer.builder("bff.middleware.serialization")
+                .tag("operation", operation)
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+
+    private ProtocolSslContextSpec buildSslContextSpec(MtlsClientProperties properties) {
         try {
             KeyManagerFactory kmf = keyManagerFactory(Path.of(properties.keyStore()), properties.keyStorePassword());
             TrustManagerFactory tmf = trustManagerFactory(Path.of(properties.trustStore()), properties.trustStorePassword());
-            return SslContextBuilder.forClient()
+            SslProvider provider = sslProvider(properties.tls().provider());
+            Consumer<SslContextBuilder> configure = builder -> builder
+                    .sslProvider(provider)
                     .keyManager(kmf)
                     .trustManager(tmf)
-                    .build();
+                    .sessionCacheSize(properties.tls().sessionCacheSize())
+                    .sessionTimeout(properties.tls().sessionTimeout().toSeconds());
+            if (properties.protocol() == MtlsClientProperties.Protocol.H2) {
+                return Http2SslContextSpec.forClient().configure(configure);
+            }
+            return Http11SslContextSpec.forClient().configure(configure);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to initialize mTLS WebClient", e);
         }
     }
 
+    private static SslProvider sslProvider(MtlsClientProperties.Provider provider) {
+        if (provider != MtlsClientProperties.Provider.OPENSSL) {
+            return SslProvider.JDK;
+        }
+        if (!OpenSsl.isAvailable()) {
+            log.warn("OpenSSL provider requested but netty-tcnative is not available, using JDK TLS", OpenSsl.unavailabilityCause());
+            return SslProvider.JDK;
+        }
+        return SslProvider.OPENSSL;
+    }
+
     private static KeyManagerFactory keyManagerFactory(Path keyStorePath, String password) throws Exception {
         KeyStore keyStore = KeyStore.getInstance("PKCS12");
         try (InputStream in = Files.newInputStream(keyStorePath)) {
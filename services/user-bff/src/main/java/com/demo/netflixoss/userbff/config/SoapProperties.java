@@ -0,0 +1,14 @@
+package com.demo.netflixoss.userbff.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "bff.soap")
+public record SoapProperties(
+        @DefaultValue("true") boolean streaming,
+        @DefaultValue("true") boolean async,
+        @DefaultValue("false") boolean validationEnabled,
+        @DefaultValue("1MB") DataSize maxBodySize
+) {
+}
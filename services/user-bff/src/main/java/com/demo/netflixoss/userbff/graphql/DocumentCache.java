@@ -0,0 +1,59 @@
+package com.demo.netflixoss.userbff.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class DocumentCache implements PreparsedDocumentProvider {
+    private static final String PERSISTED_QUERY = "persistedQuery";
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final PersistedQuerySupport persistedQueries;
+
+    public DocumentCache(long maximumSize, MeterRegistry meterRegistry) {
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, "bff.graphql.documents");
+        this.persistedQueries = new ApolloPersistedQuerySupport((queryId, input, onCacheMiss) ->
+                documents.get(PERSISTED_QUERY + ":" + queryId, key -> {
+                    String query = input.getQuery();
+                    if (query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+                        throw new PersistedQueryNotFound(queryId);
+                    }
+                    return onCacheMiss.apply(query);
+                }));
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        if (executionInput.getExtensions().containsKey(PERSISTED_QUERY)) {
+            return persistedQueries.getDocumentAsync(executionInput, parseAndValidateFunction);
+        }
+        return CompletableFuture.completedFuture(
+                documents.get(executionInput.getQuery(), query -> parseAndValidateFunction.apply(executionInput)));
+    }
+
+    @Override
+    @Deprecated
+    public PreparsedDocumentEntry getDocument(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        return getDocumentAsync(executionInput, parseAndValidateFunction).join();
+    }
+}
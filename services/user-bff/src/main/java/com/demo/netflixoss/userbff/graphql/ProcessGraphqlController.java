@@ -1,23 +1,67 @@
 package com.demo.netflixoss.userbff.graphql;
 
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedBatchItem;
 import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
 import com.demo.netflixoss.userbff.model.ProcessRequest;
+import com.demo.netflixoss.userbff.service.ApiProtocol;
 import com.demo.netflixoss.userbff.service.BffProcessingService;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.dataloader.Try;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class ProcessGraphqlController {
+    private static final String PROCESS_LOADER = "process";
+
     private final BffProcessingService bffProcessingService;
 
-    public ProcessGraphqlController(BffProcessingService bffProcessingService) {
+    public ProcessGraphqlController(
+            BffProcessingService bffProcessingService,
+            BatchLoaderRegistry batchLoaderRegistry,
+            @Value("${bff.batch.max-size:1000}") int maxBatchSize
+    ) {
         this.bffProcessingService = bffProcessingService;
+        batchLoaderRegistry.<ProcessRequest, Object>forName(PROCESS_LOADER)
+                .withOptions(options -> options.setMaxBatchSize(maxBatchSize))
+                .registerBatchLoader((requests, environment) -> processAll(requests));
     }
 
     @QueryMapping
-    public MiddlewareProcessedResponse process(@Argument String type, @Argument String message, @Argument double amount) {
-        return bffProcessingService.processViaMiddleware(new ProcessRequest(type, message, amount));
+    public CompletableFuture<MiddlewareProcessedResponse> process(
+            @Argument String type,
+            @Argument String message,
+            @Argument double amount,
+            DataFetchingEnvironment environment
+    ) {
+        DataLoader<ProcessRequest, MiddlewareProcessedResponse> loader = environment.getDataLoader(PROCESS_LOADER);
+        return loader.load(new ProcessRequest(type, message, amount));
+    }
+
+    @QueryMapping
+    public Mono<List<MiddlewareProcessedBatchItem>> processBatch(@Argument List<ProcessRequest> requests) {
+        return bffProcessingService.processBatchViaMiddleware(requests);
     }
-}
 
+    private Flux<Object> processAll(List<ProcessRequest> requests) {
+        if (requests.size() == 1) {
+            return bffProcessingService.processViaMiddleware(ApiProtocol.GRAPHQL, requests.get(0))
+                    .<Object>map(Try::succeeded)
+                    .flux();
+        }
+        return bffProcessingService.processBatchViaMiddleware(requests)
+                .flatMapIterable(items -> items)
+                .map(item -> item.error() == null
+                        ? Try.succeeded(item.response())
+                        : Try.failed(new IllegalStateException(item.error())));
+    }
+}
@@ -0,0 +1,8 @@
+package com.demo.netflixoss.userbff.model;
+
+public record MiddlewareProcessedBatchItem(
+        int index,
+        MiddlewareProcessedResponse response,
+        String error
+) {
+}
@@ -0,0 +1,7 @@
+package com.demo.netflixoss.userbff.service;
+
+public enum ApiProtocol {
+    REST,
+    GRAPHQL,
+    SOAP
+}
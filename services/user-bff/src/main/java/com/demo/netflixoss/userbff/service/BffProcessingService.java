@@ -1,20 +1,66 @@
 package com.demo.netflixoss.userbff.service;
 
 import com.demo.netflixoss.userbff.client.MiddlewareClient;
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedBatchItem;
 import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
 import com.demo.netflixoss.userbff.model.ProcessRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Service
 public class BffProcessingService {
     private final MiddlewareClient middlewareClient;
+    private final MiddlewareCallLimiter middlewareCallLimiter;
+    private final RequestCoalescer requestCoalescer;
+    private final int maxBatchSize;
 
-    public BffProcessingService(MiddlewareClient middlewareClient) {
+    public BffProcessingService(
+            MiddlewareClient middlewareClient,
+            MiddlewareCallLimiter middlewareCallLimiter,
+            RequestCoalescer requestCoalescer,
+            @Value("${bff.batch.max-size:1000}") int maxBatchSize
+    ) {
         this.middlewareClient = middlewareClient;
+        this.middlewareCallLimiter = middlewareCallLimiter;
+        this.requestCoalescer = requestCoalescer;
+        this.maxBatchSize = maxBatchSize;
     }
 
-    public MiddlewareProcessedResponse processViaMiddleware(ProcessRequest request) {
-        return middlewareClient.process(request);
+    public Mono<MiddlewareProcessedResponse> processViaMiddleware(ApiProtocol protocol, ProcessRequest request) {
+        return processViaMiddleware(protocol, request, null);
+    }
+
+    public Mono<MiddlewareProcessedResponse> processViaMiddleware(ApiProtocol protocol, ProcessRequest request, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            return middlewareCallLimiter.limit(middlewareClient.process(request, idempotencyKey));
+        }
+        return requestCoalescer.coalesce(
+                protocol,
+                request,
+                () -> middlewareCallLimiter.limit(middlewareClient.process(request, null))
+        );
     }
-}
 
+    public Mono<List<MiddlewareProcessedBatchItem>> processBatchViaMiddleware(List<ProcessRequest> requests) {
+        if (requests.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        if (requests.size() > maxBatchSize) {
+            return Mono.error(new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Batch size " + requests.size() + " exceeds the maximum of " + maxBatchSize
+            ));
+        }
+        return middlewareCallLimiter.limit(middlewareClient.processBatch(requests));
+    }
+
+    public Flux<MiddlewareProcessedResponse> processStreamViaMiddleware(Flux<ProcessRequest> requests) {
+        return middlewareCallLimiter.limit(middlewareClient.processStream(requests));
+    }
+}
@@ -0,0 +1,37 @@
+package com.demo.netflixoss.userbff.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Semaphore;
+
+@Component
+public class MiddlewareCallLimiter {
+    private final Semaphore permits;
+
+    public MiddlewareCallLimiter(@Value("${bff.middleware.max-concurrent-calls:256}") int maxConcurrentCalls) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent middleware calls"));
+            }
+            return call.doFinally(signal -> permits.release());
+        });
+    }
+
+    public <T> Flux<T> limit(Flux<T> call) {
+        return Flux.defer(() -> {
+            if (!permits.tryAcquire()) {
+                return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent middleware calls"));
+            }
+            return call.doFinally(signal -> permits.release());
+        });
+    }
+}
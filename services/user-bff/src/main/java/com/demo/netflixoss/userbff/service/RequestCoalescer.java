@@ -0,0 +1,84 @@
+package com.demo.netflixoss.userbff.service;
+
+import com.demo.netflixoss.userbff.budget.RequestBudget;
+import com.demo.netflixoss.userbff.config.CoalescingProperties;
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
+import com.demo.netflixoss.userbff.model.ProcessRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+public class RequestCoalescer {
+    private final CoalescingProperties properties;
+    private final RequestBudget requestBudget;
+    private final Map<ProcessRequest, Mono<MiddlewareProcessedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<ApiProtocol, Counter> forwarded = new EnumMap<>(ApiProtocol.class);
+    private final Map<ApiProtocol, Counter> coalesced = new EnumMap<>(ApiProtocol.class);
+    private final Map<ApiProtocol, Counter> bypassed = new EnumMap<>(ApiProtocol.class);
+
+    public RequestCoalescer(CoalescingProperties properties, RequestBudget requestBudget, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.requestBudget = requestBudget;
+        for (ApiProtocol protocol : ApiProtocol.values()) {
+            forwarded.put(protocol, counter(meterRegistry, protocol, "forwarded"));
+            coalesced.put(protocol, counter(meterRegistry, protocol, "coalesced"));
+            bypassed.put(protocol, counter(meterRegistry, protocol, "bypassed"));
+        }
+    }
+
+    public Mono<MiddlewareProcessedResponse> coalesce(
+            ApiProtocol protocol,
+            ProcessRequest request,
+            Supplier<Mono<MiddlewareProcessedResponse>> call
+    ) {
+        if (!properties.enabled() || properties.excludedProtocols().contains(protocol)) {
+            return Mono.defer(() -> {
+                bypassed.get(protocol).increment();
+                return call.get();
+            });
+        }
+        return requestBudget.bounded(Mono.defer(() -> {
+            AtomicReference<Mono<MiddlewareProcessedResponse>> created = new AtomicReference<>();
+            Mono<MiddlewareProcessedResponse> shared = inFlight.computeIfAbsent(request, key -> {
+                Mono<MiddlewareProcessedResponse> mono = call.get()
+                        .contextWrite(requestBudget::detached)
+                        .doFinally(signal -> release(key, created.get(), signal))
+                        .cache();
+                created.set(mono);
+                return mono;
+            });
+            if (shared == created.get()) {
+                forwarded.get(protocol).increment();
+            } else {
+                coalesced.get(protocol).increment();
+            }
+            return shared;
+        }));
+    }
+
+    private void release(ProcessRequest key, Mono<MiddlewareProcessedResponse> mono, SignalType signal) {
+        Duration window = properties.window();
+        if (signal != SignalType.ON_COMPLETE || window.isZero() || window.isNegative()) {
+            inFlight.remove(key, mono);
+            return;
+        }
+        Mono.delay(window).subscribe(tick -> inFlight.remove(key, mono));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, ApiProtocol protocol, String outcome) {
+        return Counter.builder("bff.coalescing.calls")
+                .tag("protocol", protocol.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package com.demo.netflixoss.userbff.soap;
+
+import org.springframework.oxm.XmlMappingException;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+public class StaxSoapCodec {
+    private static final String SOAP_ENV_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String SOAP_ENV_PREFIX = "SOAP-ENV";
+    private static final QName ENVELOPE = new QName(SOAP_ENV_NS, "Envelope");
+    private static final QName HEADER = new QName(SOAP_ENV_NS, "Header");
+    private static final QName BODY = new QName(SOAP_ENV_NS, "Body");
+    private static final byte[] ENVELOPE_START = ("<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"" + SOAP_ENV_NS + "\">"
+            + "<SOAP-ENV:Header/><SOAP-ENV:Body>").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENVELOPE_END = "</SOAP-ENV:Body></SOAP-ENV:Envelope>".getBytes(StandardCharsets.UTF_8);
+
+    private final Jaxb2Marshaller marshaller;
+    private final Set<QName> payloads;
+    private final XMLInputFactory inputFactory;
+    private final XMLOutputFactory outputFactory;
+
+    public StaxSoapCodec(Jaxb2Marshaller marshaller, Set<QName> payloads) {
+        this.marshaller = marshaller;
+        this.payloads = payloads;
+        this.inputFactory = XMLInputFactory.newFactory();
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.outputFactory = XMLOutputFactory.newFactory();
+    }
+
+    public Object readRequest(byte[] envelope) {
+        XMLStreamReader reader = null;
+        try {
+            reader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(envelope));
+            if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !ENVELOPE.equals(reader.getName())) {
+                return null;
+            }
+            reader.nextTag();
+            if (HEADER.equals(reader.getName())) {
+                if (reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
+                    return null;
+                }
+                reader.nextTag();
+            }
+            if (!BODY.equals(reader.getName()) || reader.nextTag() != XMLStreamConstants.START_ELEMENT) {
+                return null;
+            }
+            if (!payloads.contains(reader.getName())) {
+                return null;
+            }
+            return marshaller.unmarshal(new StAXSource(reader));
+        } catch (XMLStreamException | XmlMappingException e) {
+            return null;
+        } finally {
+            close(reader);
+        }
+    }
+
+    public void writeResponse(Object payload, OutputStream out) throws IOException {
+        out.write(ENVELOPE_START);
+        marshaller.marshal(payload, new StreamResult(out));
+        out.write(ENVELOPE_END);
+    }
+
+    public void writeServerFault(String faultString, OutputStream out) throws XMLStreamException {
+        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, "UTF-8");
+        writer.writeStartElement(SOAP_ENV_PREFIX, "Envelope", SOAP_ENV_NS);
+        writer.writeNamespace(SOAP_ENV_PREFIX, SOAP_ENV_NS);
+        writer.writeEmptyElement(SOAP_ENV_PREFIX, "Header", SOAP_ENV_NS);
+        writer.writeStartElement(SOAP_ENV_PREFIX, "Body", SOAP_ENV_NS);
+        writer.writeStartElement(SOAP_ENV_PREFIX, "Fault", SOAP_ENV_NS);
+        writer.writeStartElement("faultcode");
+        writer.writeCharacters(SOAP_ENV_PREFIX + ":Server");
+        writer.writeEndElement();
+        writer.writeStartElement("faultstring");
+        writer.writeAttribute("xml", XMLConstants.XML_NS_URI, "lang", "en");
+        writer.writeCharacters(faultString == null ? "" : faultString);
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.flush();
+        writer.close();
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.demo.netflixoss.userbff.soap;
+
+import com.demo.netflixoss.userbff.api.CachedBodyRequest;
+import com.demo.netflixoss.userbff.budget.RequestBudget;
+import com.demo.netflixoss.userbff.soap.endpoint.ProcessEndpoint;
+import com.demo.netflixoss.userbff.soap.schema.ProcessBatchRequestElement;
+import com.demo.netflixoss.userbff.soap.schema.ProcessRequestElement;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class StaxSoapFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(StaxSoapFilter.class);
+    private static final String CONTENT_TYPE = "text/xml;charset=utf-8";
+
+    private final StaxSoapCodec codec;
+    private final ProcessEndpoint processEndpoint;
+    private final boolean async;
+    private final Duration asyncTimeout;
+    private final DataSize maxBodySize;
+
+    public StaxSoapFilter(
+            StaxSoapCodec codec,
+            ProcessEndpoint processEndpoint,
+            boolean async,
+            Duration asyncTimeout,
+            DataSize maxBodySize
+    ) {
+        this.codec = codec;
+        this.processEndpoint = processEndpoint;
+        this.async = async;
+        this.asyncTimeout = asyncTimeout;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return !"POST".equals(request.getMethod()) || contentType == null || !contentType.startsWith("text/xml");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.setPathPattern(request.getServletPath()));
+        byte[] body = CachedBodyRequest.read(request, maxBodySize);
+        if (body == null) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        Object payload = codec.readRequest(body);
+        if (payload == null) {
+            filterChain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+
+        String budget = request.getHeader(RequestBudget.HEADER);
+        Mono<?> result = Mono.defer(() -> payload instanceof ProcessRequestElement processRequest
+                ? processEndpoint.processAsync(processRequest, budget)
+                : processEndpoint.processBatchAsync((ProcessBatchRequestElement) payload, budget));
+        if (!async || !request.isAsyncSupported()) {
+            try {
+                write(response, result.block(), null);
+            } catch (RuntimeException e) {
+                write(response, null, e);
+            }
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(asyncTimeout.toMillis());
+        AtomicBoolean done = new AtomicBoolean();
+        Disposable subscription = result
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("No SOAP response produced")))
+                .subscribe(
+                        value -> dispatch(asyncContext, done, value, null),
+                        error -> dispatch(asyncContext, done, null, error)
+                );
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                subscription.dispose();
+                if (done.compareAndSet(false, true)) {
+                    complete(asyncContext, null, new TimeoutException("SOAP request timed out after " + asyncTimeout));
+                }
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                subscription.dispose();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private void dispatch(AsyncContext asyncContext, AtomicBoolean done, Object result, Throwable error) {
+        if (done.compareAndSet(false, true)) {
+            asyncContext.start(() -> complete(asyncContext, result, error));
+        }
+    }
+
+    private void complete(AsyncContext asyncContext, Object result, Throwable error) {
+        try {
+            write((HttpServletResponse) asyncContext.getResponse(), result, error);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to write SOAP response", e);
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private void write(HttpServletResponse response, Object result, Throwable error) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        if (error == null) {
+            try {
+                codec.writeResponse(result, out);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            out.reset();
+            writeFault(error, out);
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(out.size());
+        out.writeTo(response.getOutputStream());
+    }
+
+    private void writeFault(Throwable error, ByteArrayOutputStream out) throws IOException {
+        try {
+            codec.writeServerFault(error.getMessage(), out);
+        } catch (XMLStreamException faultException) {
+            throw new IOException(faultException);
+        }
+    }
+}
@@ -1,19 +1,43 @@
 package com.demo.netflixoss.userbff.soap;
 
+import com.demo.netflixoss.userbff.config.SoapProperties;
+import com.demo.netflixoss.userbff.soap.endpoint.ProcessEndpoint;
+import com.demo.netflixoss.userbff.soap.schema.ProcessRequestElement;
+import jakarta.xml.bind.Marshaller;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.ws.config.annotation.EnableWs;
+import org.springframework.ws.soap.server.endpoint.interceptor.PayloadRootSmartSoapEndpointInterceptor;
+import org.springframework.ws.soap.server.endpoint.interceptor.PayloadValidatingInterceptor;
 import org.springframework.ws.transport.http.MessageDispatcherServlet;
 import org.springframework.ws.wsdl.wsdl11.DefaultWsdl11Definition;
+import org.springframework.ws.wsdl.wsdl11.SimpleWsdl11Definition;
+import org.springframework.xml.transform.TransformerFactoryUtils;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.springframework.xml.xsd.XsdSchema;
 
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
 @EnableWs
 @Configuration
+@EnableConfigurationProperties(SoapProperties.class)
 public class WebServiceConfig {
+    private static final String NAMESPACE_URI = "http://demo.netflixoss.com/userbff/process";
+    private static final ClassPathResource PROCESS_XSD = new ClassPathResource("xsd/process.xsd");
 
     @Bean
     public ServletRegistrationBean<MessageDispatcherServlet> messageDispatcherServlet(ApplicationContext applicationContext) {
@@ -24,18 +48,67 @@ public class WebServiceConfig {
     }
 
     @Bean(name = "process")
-    public DefaultWsdl11Definition defaultWsdl11Definition(XsdSchema processSchema) {
+    public SimpleWsdl11Definition defaultWsdl11Definition(XsdSchema processSchema) throws Exception {
         DefaultWsdl11Definition wsdl11Definition = new DefaultWsdl11Definition();
         wsdl11Definition.setPortTypeName("ProcessPort");
         wsdl11Definition.setLocationUri("/ws");
-        wsdl11Definition.setTargetNamespace("http://demo.netflixoss.com/userbff/process");
+        wsdl11Definition.setTargetNamespace(NAMESPACE_URI);
         wsdl11Definition.setSchema(processSchema);
-        return wsdl11Definition;
+        wsdl11Definition.afterPropertiesSet();
+
+        ByteArrayOutputStream wsdl = new ByteArrayOutputStream();
+        TransformerFactoryUtils.newInstance().newTransformer().transform(wsdl11Definition.getSource(), new StreamResult(wsdl));
+        return new SimpleWsdl11Definition(new ByteArrayResource(wsdl.toByteArray()));
     }
 
     @Bean
     public XsdSchema processSchema() {
-        return new SimpleXsdSchema(new ClassPathResource("xsd/process.xsd"));
+        return new SimpleXsdSchema(PROCESS_XSD);
+    }
+
+    @Bean
+    public Jaxb2Marshaller soapMarshaller(SoapProperties soapProperties) {
+        Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+        marshaller.setPackagesToScan(ProcessRequestElement.class.getPackageName());
+        marshaller.setMarshallerProperties(Map.of(Marshaller.JAXB_FRAGMENT, true));
+        if (soapProperties.validationEnabled()) {
+            marshaller.setSchema(PROCESS_XSD);
+        }
+        return marshaller;
     }
-}
 
+    @Bean
+    public FilterRegistrationBean<StaxSoapFilter> staxSoapFilter(
+            SoapProperties soapProperties,
+            Jaxb2Marshaller soapMarshaller,
+            ProcessEndpoint processEndpoint,
+            @Value("${spring.mvc.async.request-timeout:30s}") Duration asyncTimeout
+    ) {
+        StaxSoapCodec codec = new StaxSoapCodec(soapMarshaller, Set.of(
+                new QName(NAMESPACE_URI, "ProcessRequest"),
+                new QName(NAMESPACE_URI, "ProcessBatchRequest")
+        ));
+        StaxSoapFilter filter = new StaxSoapFilter(
+                codec,
+                processEndpoint,
+                soapProperties.async(),
+                asyncTimeout,
+                soapProperties.maxBodySize()
+        );
+        FilterRegistrationBean<StaxSoapFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/ws");
+        registration.setEnabled(soapProperties.streaming());
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bff.soap", name = "validation-enabled", havingValue = "true")
+    public static PayloadRootSmartSoapEndpointInterceptor payloadValidatingInterceptor() throws Exception {
+        PayloadValidatingInterceptor validatingInterceptor = new PayloadValidatingInterceptor();
+        validatingInterceptor.setSchema(PROCESS_XSD);
+        validatingInterceptor.setValidateRequest(true);
+        validatingInterceptor.setValidateResponse(true);
+        validatingInterceptor.afterPropertiesSet();
+        return new PayloadRootSmartSoapEndpointInterceptor(validatingInterceptor, NAMESPACE_URI, null);
+    }
+}
@@ -1,32 +1,54 @@
 package com.demo.netflixoss.userbff.soap.endpoint;
 
+import com.demo.netflixoss.userbff.budget.RequestBudget;
+import com.demo.netflixoss.userbff.model.MiddlewareProcessedBatchItem;
 import com.demo.netflixoss.userbff.model.MiddlewareProcessedResponse;
 import com.demo.netflixoss.userbff.model.ProcessRequest;
+import com.demo.netflixoss.userbff.service.ApiProtocol;
 import com.demo.netflixoss.userbff.service.BffProcessingService;
+import com.demo.netflixoss.userbff.soap.schema.ProcessBatchRequestElement;
+import com.demo.netflixoss.userbff.soap.schema.ProcessBatchResponseElement;
+import com.demo.netflixoss.userbff.soap.schema.ProcessBatchResultType;
 import com.demo.netflixoss.userbff.soap.schema.ProcessRequestElement;
 import com.demo.netflixoss.userbff.soap.schema.ProcessResponseElement;
 import org.springframework.ws.server.endpoint.annotation.Endpoint;
 import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
 import org.springframework.ws.server.endpoint.annotation.RequestPayload;
 import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+import org.springframework.ws.transport.http.HttpServletConnection;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Endpoint
 public class ProcessEndpoint {
     private static final String NAMESPACE_URI = "http://demo.netflixoss.com/userbff/process";
 
     private final BffProcessingService bffProcessingService;
+    private final RequestBudget requestBudget;
 
-    public ProcessEndpoint(BffProcessingService bffProcessingService) {
+    public ProcessEndpoint(BffProcessingService bffProcessingService, RequestBudget requestBudget) {
         this.bffProcessingService = bffProcessingService;
+        this.requestBudget = requestBudget;
     }
 
     @PayloadRoot(namespace = NAMESPACE_URI, localPart = "ProcessRequest")
     @ResponsePayload
     public ProcessResponseElement process(@RequestPayload ProcessRequestElement soapRequest) {
-        MiddlewareProcessedResponse response = bffProcessingService.processViaMiddleware(
+        return processAsync(soapRequest, budgetHeader()).block();
+    }
+
+    public Mono<ProcessResponseElement> processAsync(ProcessRequestElement soapRequest, String budget) {
+        return bffProcessingService.processViaMiddleware(
+                ApiProtocol.SOAP,
                 new ProcessRequest(soapRequest.getType(), soapRequest.getMessage(), soapRequest.getAmount())
-        );
+        ).map(ProcessEndpoint::toSoapResponse).contextWrite(requestBudget.context(budget));
+    }
 
+    public static ProcessResponseElement toSoapResponse(MiddlewareProcessedResponse response) {
         ProcessResponseElement soapResponse = new ProcessResponseElement();
         soapResponse.setType(response.original().type());
         soapResponse.setMessage(response.original().message());
@@ -39,4 +61,50 @@ public class ProcessEndpoint {
         soapResponse.setReceivedClientSerial(response.receivedClientSerial());
         return soapResponse;
     }
+
+    @PayloadRoot(namespace = NAMESPACE_URI, localPart = "ProcessBatchRequest")
+    @ResponsePayload
+    public ProcessBatchResponseElement processBatch(@RequestPayload ProcessBatchRequestElement soapRequest) {
+        return processBatchAsync(soapRequest, budgetHeader()).block();
+    }
+
+    public Mono<ProcessBatchResponseElement> processBatchAsync(ProcessBatchRequestElement soapRequest, String budget) {
+        List<ProcessRequest> requests = soapRequest.getItem().stream()
+                .map(item -> new ProcessRequest(item.getType(), item.getMessage(), item.getAmount()))
+                .toList();
+        return bffProcessingService.processBatchViaMiddleware(requests)
+                .map(ProcessEndpoint::toSoapBatchResponse)
+                .contextWrite(requestBudget.context(budget));
+    }
+
+    private static String budgetHeader() {
+        TransportContext transportContext = TransportContextHolder.getTransportContext();
+        if (transportContext != null && transportContext.getConnection() instanceof HttpServletConnection connection) {
+            return connection.getHttpServletRequest().getHeader(RequestBudget.HEADER);
+        }
+        return null;
+    }
+
+    private static ProcessBatchResponseElement toSoapBatchResponse(List<MiddlewareProcessedBatchItem> items) {
+        ProcessBatchResponseElement soapResponse = new ProcessBatchResponseElement();
+        for (MiddlewareProcessedBatchItem item : items) {
+            ProcessBatchResultType result = new ProcessBatchResultType();
+            result.setIndex(item.index());
+            result.setError(item.error());
+            MiddlewareProcessedResponse response = item.response();
+            if (response != null) {
+                result.setType(response.original().type());
+                result.setMessage(response.original().message());
+                result.setAmount(response.original().amount());
+                result.setComputedOutput(response.computedOutput());
+                result.setTimestamp(response.timestamp());
+                result.setClientCertificateSubject(response.clientCertificateSubject());
+                result.setClientCertificateSerial(response.clientCertificateSerial());
+                result.setReceivedClientSubject(response.receivedClientSubject());
+                result.setReceivedClientSerial(response.receivedClientSerial());
+            }
+            soapResponse.getResult().add(result);
+        }
+        return soapResponse;
+    }
 }
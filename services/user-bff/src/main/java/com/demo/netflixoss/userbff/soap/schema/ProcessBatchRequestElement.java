@@ -0,0 +1,25 @@
+package com.demo.netflixoss.userbff.soap.schema;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {"item"})
+@XmlRootElement(name = "ProcessBatchRequest", namespace = "http://demo.netflixoss.com/userbff/process")
+public class ProcessBatchRequestElement {
+    @XmlElement(required = true)
+    private List<ProcessItemType> item;
+
+    public List<ProcessItemType> getItem() {
+        if (item == null) {
+            item = new ArrayList<>();
+        }
+        return item;
+    }
+}
@@ -0,0 +1,23 @@
+package com.demo.netflixoss.userbff.soap.schema;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {"result"})
+@XmlRootElement(name = "ProcessBatchResponse", namespace = "http://demo.netflixoss.com/userbff/process")
+public class ProcessBatchResponseElement {
+    private List<ProcessBatchResultType> result;
+
+    public List<ProcessBatchResultType> getResult() {
+        if (result == null) {
+            result = new ArrayList<>();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package com.demo.netflixoss.userbff.soap.schema;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlType;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(
+        name = "ProcessBatchResult",
+        propOrder = {
+                "index",
+                "error",
+                "type",
+                "message",
+                "amount",
+                "computedOutput",
+                "timestamp",
+                "clientCertificateSubject",
+                "clientCertificateSerial",
+                "receivedClientSubject",
+                "receivedClientSerial"
+        }
+)
+public class ProcessBatchResultType {
+    private int index;
+    private String error;
+    private String type;
+    private String message;
+    private Double amount;
+    private String computedOutput;
+    private String timestamp;
+    private String clientCertificateSubject;
+    private String clientCertificateSerial;
+    private String receivedClientSubject;
+    private String receivedClientSerial;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public String getComputedOutput() {
+        return computedOutput;
+    }
+
+    public void setComputedOutput(String computedOutput) {
+        this.computedOutput = computedOutput;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(String timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getClientCertificateSubject() {
+        return clientCertificateSubject;
+    }
+
+    public void setClientCertificateSubject(String clientCertificateSubject) {
+        this.clientCertificateSubject = clientCertificateSubject;
+    }
+
+    public String getClientCertificateSerial() {
+        return clientCertificateSerial;
+    }
+
+    public void setClientCertificateSerial(String clientCertificateSerial) {
+        this.clientCertificateSerial = clientCertificateSerial;
+    }
+
+    public String getReceivedClientSubject() {
+        return receivedClientSubject;
+    }
+
+    public void setReceivedClientSubject(String receivedClientSubject) {
+        this.receivedClientSubject = receivedClientSubject;
+    }
+
+    public String getReceivedClientSerial() {
+        return receivedClientSerial;
+    }
+
+    public void setReceivedClientSerial(String receivedClientSerial) {
+        this.receivedClientSerial = receivedClientSerial;
+    }
+}
@@ -0,0 +1,5 @@
+@XmlSchema(namespace = "http://demo.netflixoss.com/userbff/process", elementFormDefault = XmlNsForm.QUALIFIED)
+package com.demo.netflixoss.userbff.soap.schema;
+
+import jakarta.xml.bind.annotation.XmlNsForm;
+import jakarta.xml.bind.annotation.XmlSchema;